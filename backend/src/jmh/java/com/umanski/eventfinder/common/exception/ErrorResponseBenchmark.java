@@ -0,0 +1,105 @@
+package com.umanski.eventfinder.common.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.umanski.eventfinder.event.model.dto.EventDto;
+import com.umanski.eventfinder.event.model.dto.EventPageDto;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.InsufficientAuthenticationException;
+
+import java.io.IOException;
+import java.security.Key;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ErrorResponseBenchmark {
+
+    private static final String SECRET_KEY = "c2VjcmV0LWtleS11c2VkLW9ubHktaW4tdW5pdC10ZXN0cy0xMjM0NTY3ODkw";
+    private static final String PATH = "/api/v1/events";
+
+    private ObjectMapper objectMapper;
+    private ErrorResponseWriter.Template unauthorizedTemplate;
+    private InsufficientAuthenticationException exception;
+    private JwtParser jwtParser;
+    private String accessToken;
+    private EventPageDto eventPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        unauthorizedTemplate = new ErrorResponseWriter(objectMapper, new SimpleMeterRegistry())
+                .template(HttpStatus.UNAUTHORIZED, "Authentication Failed");
+        exception = new InsufficientAuthenticationException("Full authentication is required");
+
+        Key signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+        accessToken = Jwts.builder()
+                .setSubject("john.doe@example.com")
+                .setId(UUID.randomUUID().toString())
+                .claim("type", "access_token")
+                .setExpiration(new Date(System.currentTimeMillis() + 3_600_000L))
+                .signWith(signInKey, SignatureAlgorithm.HS256)
+                .compact();
+        Instant start = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        eventPage = new EventPageDto(IntStream.range(0, 20)
+                .mapToObj(i -> new EventDto(UUID.randomUUID(), "Event " + i, "Description of event " + i,
+                        50.06 + i * 0.001, 19.94 + i * 0.001, start.plus(i, ChronoUnit.HOURS),
+                        start.plus(i + 2, ChronoUnit.HOURS), UUID.randomUUID()))
+                .toList(), "AAAAAHG_l6AAAAAAAaFLjo4HdsSeukhGOAJoKA");
+    }
+
+    @Benchmark
+    public MockHttpServletResponse errorResponseWithNewObjectMapper() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        new ObjectMapper().writeValue(response.getWriter(), new ErrorResponse(
+                OffsetDateTime.now().toString(),
+                HttpStatus.UNAUTHORIZED.value(),
+                "Authentication Failed",
+                PATH
+        ));
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse errorResponseFromTemplate() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        unauthorizedTemplate.write(response, exception, PATH);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse successfulEventPageResponse() throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Claims claims = jwtParser.parseClaimsJws(accessToken).getBody();
+        response.setHeader("X-Subject", claims.getSubject());
+        response.setContentType("application/json");
+        objectMapper.writeValue(response.getOutputStream(), eventPage);
+        return response;
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.umanski.eventfinder.common.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class UuidGeneratorBenchmark {
+
+    private final UuidV7Generator generator = UuidV7Generator.getInstance();
+
+    @Benchmark
+    public UUID randomUuid() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID uuidV7() {
+        return generator.generate();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID uuidV7Contended() {
+        return generator.generate();
+    }
+
+}
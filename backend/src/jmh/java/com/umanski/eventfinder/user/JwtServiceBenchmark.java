@@ -0,0 +1,77 @@
+package com.umanski.eventfinder.user;
+
+import com.umanski.eventfinder.config.ReadYourWritesWindow;
+import com.umanski.eventfinder.user.model.entity.User;
+import com.umanski.eventfinder.user.model.security.VerifiedToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET_KEY = "c2VjcmV0LWtleS11c2VkLW9ubHktaW4tdW5pdC10ZXN0cy0xMjM0NTY3ODkw";
+
+    private JwtServiceImpl jwtService;
+    private User user;
+    private String accessToken;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        TokenRepository tokenRepository = mock(TokenRepository.class);
+        TokenRevocationIndex revocationIndex = new TokenRevocationIndex(1_000, 0.01, new SimpleMeterRegistry());
+        RefreshTokenWriteBehind refreshTokenWriteBehind = new RefreshTokenWriteBehind(tokenRepository, revocationIndex,
+                TransactionOperations.withoutTransaction(), new SimpleMeterRegistry(), false, 500, 10_000, true,
+                5, Duration.ofMillis(500), Duration.ofMillis(200));
+        jwtService = new JwtServiceImpl(tokenRepository, mock(UserService.class), revocationIndex, refreshTokenWriteBehind,
+                new ReadYourWritesWindow(false, Duration.ZERO, 0), TransactionOperations.withoutTransaction(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtService, "jwtAccessTokenExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtService, "jwtRefreshTokenExpiration", 7_200_000L);
+        ReflectionTestUtils.setField(jwtService, "statelessAuthentication", true);
+        jwtService.init();
+
+        user = User.builder()
+                .id(UUID.randomUUID())
+                .email("john.doe@example.com")
+                .firstName("John")
+                .lastName("Doe")
+                .password("password")
+                .build();
+        accessToken = jwtService.generateAccessToken(user);
+        request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+    }
+
+    @Benchmark
+    public String buildAccessToken() {
+        return jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyToken() {
+        return jwtService.verifyToken(accessToken);
+    }
+
+    @Benchmark
+    public Optional<VerifiedToken> extractAndValidateAccessToken() {
+        return jwtService.extractAndValidateAccessToken(request);
+    }
+
+}
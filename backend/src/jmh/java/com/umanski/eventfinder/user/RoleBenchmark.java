@@ -0,0 +1,26 @@
+package com.umanski.eventfinder.user;
+
+import com.umanski.eventfinder.user.model.enums.Role;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RoleBenchmark {
+
+    @Param({"USER", "ADMIN"})
+    private Role role;
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return role.getAuthorities();
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.umanski.eventfinder.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+public class BroadcastInvalidatedCache extends CaffeineCache {
+
+    private final CacheInvalidationBus invalidationBus;
+
+    public BroadcastInvalidatedCache(String name, Cache<Object, Object> localCache, CacheInvalidationBus invalidationBus) {
+        super(name, localCache, false);
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(name, this::invalidateLocally);
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        invalidationBus.publish(getName(), key.toString());
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = super.evictIfPresent(key);
+        invalidationBus.publish(getName(), key.toString());
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        invalidationBus.publish(getName(), null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = super.invalidate();
+        invalidationBus.publish(getName(), null);
+        return notEmpty;
+    }
+
+    private void invalidateLocally(String key) {
+        if (key == null) {
+            getNativeCache().invalidateAll();
+        } else {
+            getNativeCache().invalidate(key);
+        }
+    }
+
+}
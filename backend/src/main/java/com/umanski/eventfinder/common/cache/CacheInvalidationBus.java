@@ -0,0 +1,78 @@
+package com.umanski.eventfinder.common.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+@Slf4j
+public class CacheInvalidationBus {
+
+    static final String CHANNEL = "cache-invalidation";
+
+    private final SharedCacheStore sharedStore;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Consumer<String>> listeners = new ConcurrentHashMap<>();
+    private final Map<String, Timer> lagTimers = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(SharedCacheStore sharedStore, MeterRegistry meterRegistry) {
+        this(sharedStore, meterRegistry, Clock.systemUTC());
+    }
+
+    CacheInvalidationBus(SharedCacheStore sharedStore, MeterRegistry meterRegistry, Clock clock) {
+        this.sharedStore = sharedStore;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        sharedStore.subscribe(CHANNEL, this::onMessage);
+    }
+
+    public void publish(String cacheName, String key) {
+        StringBuilder message = new StringBuilder()
+                .append(nodeId).append('\n')
+                .append(clock.millis()).append('\n')
+                .append(cacheName);
+        if (key != null) {
+            message.append('\n').append(key);
+        }
+        sharedStore.publish(CHANNEL, message.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public void subscribe(String cacheName, Consumer<String> listener) {
+        listeners.put(cacheName, listener);
+    }
+
+    private void onMessage(byte[] payload) {
+        String[] parts = new String(payload, StandardCharsets.UTF_8).split("\n", 4);
+        if (parts.length < 3) {
+            log.warn("Ignoring malformed cache invalidation message");
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+        Consumer<String> listener = listeners.get(parts[2]);
+        if (listener == null) {
+            return;
+        }
+        listener.accept(parts.length == 4 ? parts[3] : null);
+        long lagMillis = Math.max(0, clock.millis() - Long.parseLong(parts[1]));
+        lagTimer(parts[2]).record(lagMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private Timer lagTimer(String cacheName) {
+        return lagTimers.computeIfAbsent(cacheName, name -> Timer.builder("cache.invalidation.lag")
+                .description("Time from publishing an invalidation on one node to applying it on another")
+                .tag("cache", name)
+                .register(meterRegistry));
+    }
+
+}
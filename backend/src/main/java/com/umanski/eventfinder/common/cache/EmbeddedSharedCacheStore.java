@@ -0,0 +1,137 @@
+package com.umanski.eventfinder.common.cache;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class EmbeddedSharedCacheStore implements SharedCacheStore, AutoCloseable {
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, List<Consumer<byte[]>>> subscribers = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final Executor publisher;
+
+    public EmbeddedSharedCacheStore() {
+        this(Clock.systemUTC(), Executors.newSingleThreadExecutor(Thread.ofPlatform()
+                .name("shared-cache-publisher")
+                .daemon()
+                .factory()));
+    }
+
+    EmbeddedSharedCacheStore(Clock clock, Executor publisher) {
+        this.clock = clock;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public Optional<byte[]> get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.isExpired(clock.millis())) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.getValue().clone());
+    }
+
+    @Override
+    public Map<String, byte[]> getByPrefix(String keyPrefix) {
+        long now = clock.millis();
+        return entries.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(keyPrefix) && !entry.getValue().isExpired(now))
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getValue().clone()));
+    }
+
+    @Override
+    public void put(String key, byte[] value, Duration timeToLive) {
+        entries.put(key, new Entry(value.clone(), clock.millis() + timeToLive.toMillis()));
+    }
+
+    @Override
+    public boolean compareAndSet(String key, byte[] expectedValue, byte[] newValue, Duration timeToLive) {
+        long now = clock.millis();
+        boolean[] swapped = new boolean[1];
+        entries.compute(key, (ignored, entry) -> {
+            byte[] currentValue = entry != null && !entry.isExpired(now) ? entry.getValue() : null;
+            swapped[0] = currentValue == null ? expectedValue == null : Arrays.equals(currentValue, expectedValue);
+            return swapped[0] ? new Entry(newValue.clone(), now + timeToLive.toMillis()) : entry;
+        });
+        return swapped[0];
+    }
+
+    @Override
+    public void delete(String key) {
+        entries.remove(key);
+    }
+
+    @Override
+    public void deleteByPrefix(String keyPrefix) {
+        entries.keySet().removeIf(key -> key.startsWith(keyPrefix));
+    }
+
+    @Override
+    public void publish(String channel, byte[] message) {
+        List<Consumer<byte[]>> listeners = subscribers.getOrDefault(channel, List.of());
+        byte[] payload = message.clone();
+        publisher.execute(() -> listeners.forEach(listener -> deliver(listener, payload)));
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<byte[]> listener) {
+        subscribers.computeIfAbsent(channel, ignored -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @Scheduled(fixedDelayString = "${application.cache.shared.purge-interval}")
+    public int purgeExpired() {
+        long now = clock.millis();
+        int sizeBefore = entries.size();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+        return sizeBefore - entries.size();
+    }
+
+    @Override
+    public void close() {
+        if (publisher instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private void deliver(Consumer<byte[]> listener, byte[] payload) {
+        try {
+            listener.accept(payload.clone());
+        } catch (RuntimeException e) {
+            log.warn("Shared cache subscriber failed to handle a message", e);
+        }
+    }
+
+    @Value
+    private static class Entry {
+
+        byte[] value;
+        long expiresAtMillis;
+
+        boolean isExpired(long nowMillis) {
+            return expiresAtMillis <= nowMillis;
+        }
+
+    }
+
+}
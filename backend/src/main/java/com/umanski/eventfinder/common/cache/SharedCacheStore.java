@@ -0,0 +1,26 @@
+package com.umanski.eventfinder.common.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public interface SharedCacheStore {
+
+    Optional<byte[]> get(String key);
+
+    Map<String, byte[]> getByPrefix(String keyPrefix);
+
+    void put(String key, byte[] value, Duration timeToLive);
+
+    boolean compareAndSet(String key, byte[] expectedValue, byte[] newValue, Duration timeToLive);
+
+    void delete(String key);
+
+    void deleteByPrefix(String keyPrefix);
+
+    void publish(String channel, byte[] message);
+
+    void subscribe(String channel, Consumer<byte[]> listener);
+
+}
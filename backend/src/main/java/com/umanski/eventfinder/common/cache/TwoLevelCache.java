@@ -0,0 +1,154 @@
+package com.umanski.eventfinder.common.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<Object, Object> localCache;
+    private final SharedCacheStore sharedStore;
+    private final CacheInvalidationBus invalidationBus;
+    private final ObjectMapper objectMapper;
+    private final Class<?> valueType;
+    private final Duration timeToLive;
+    private final Counter sharedHits;
+    private final Counter sharedMisses;
+
+    public TwoLevelCache(String name, Cache<Object, Object> localCache, SharedCacheStore sharedStore, CacheInvalidationBus invalidationBus,
+                         ObjectMapper objectMapper, Class<?> valueType, Duration timeToLive, MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.localCache = localCache;
+        this.sharedStore = sharedStore;
+        this.invalidationBus = invalidationBus;
+        this.objectMapper = objectMapper.copy();
+        this.objectMapper.setConfig(this.objectMapper.getDeserializationConfig()
+                .without(MapperFeature.USE_GETTERS_AS_SETTERS)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES));
+        this.valueType = valueType;
+        this.timeToLive = timeToLive;
+        this.sharedHits = sharedLookupCounter("hit", meterRegistry);
+        this.sharedMisses = sharedLookupCounter("miss", meterRegistry);
+        invalidationBus.subscribe(name, this::invalidateLocally);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Cache<Object, Object> getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = localCache.getIfPresent(key);
+        if (value == null) {
+            value = readShared(key);
+            if (value != null) {
+                localCache.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value != null) {
+            return (T) fromStoreValue(value);
+        }
+        T loadedValue;
+        try {
+            loadedValue = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, loadedValue);
+        return loadedValue;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object storeValue = toStoreValue(value);
+        localCache.put(key, storeValue);
+        writeShared(key, storeValue);
+    }
+
+    @Override
+    public void evict(Object key) {
+        localCache.invalidate(key);
+        sharedStore.delete(sharedKey(key));
+        invalidationBus.publish(name, key.toString());
+    }
+
+    @Override
+    public void clear() {
+        localCache.invalidateAll();
+        sharedStore.deleteByPrefix(name + ":");
+        invalidationBus.publish(name, null);
+    }
+
+    private void invalidateLocally(String key) {
+        if (key == null) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(key);
+        }
+    }
+
+    private Object readShared(Object key) {
+        Optional<byte[]> serializedValue = sharedStore.get(sharedKey(key));
+        if (serializedValue.isEmpty()) {
+            sharedMisses.increment();
+            return null;
+        }
+        try {
+            Object value = objectMapper.readValue(serializedValue.get(), valueType);
+            sharedHits.increment();
+            return value;
+        } catch (IOException e) {
+            log.warn("Dropping unreadable entry {} from shared cache {}", key, name, e);
+            sharedStore.delete(sharedKey(key));
+            sharedMisses.increment();
+            return null;
+        }
+    }
+
+    private void writeShared(Object key, Object value) {
+        try {
+            sharedStore.put(sharedKey(key), objectMapper.writeValueAsBytes(value), timeToLive);
+        } catch (IOException e) {
+            log.warn("Could not write entry {} to shared cache {}", key, name, e);
+        }
+    }
+
+    private String sharedKey(Object key) {
+        return name + ":" + key;
+    }
+
+    private Counter sharedLookupCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("cache.shared.gets")
+                .description("Lookups in the shared cache tier after a local miss")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.umanski.eventfinder.common.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Value;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class ErrorResponseWriter {
+
+    private static final byte[] TIMESTAMP_FIELD = "{\"timestamp\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] END_OBJECT = "}".getBytes(StandardCharsets.UTF_8);
+    private static final String CONTENT_TYPE = MediaType.APPLICATION_JSON_VALUE + ";charset=UTF-8";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+    private volatile CachedTimestamp cachedTimestamp = new CachedTimestamp(Long.MIN_VALUE, "", new byte[0]);
+
+    @Autowired
+    public ErrorResponseWriter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this(objectMapper, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    ErrorResponseWriter(ObjectMapper objectMapper, MeterRegistry meterRegistry, Clock clock) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    public Template template(HttpStatus status, String message) {
+        return templates.computeIfAbsent(status.value() + " " + message, key -> new Template(status, message));
+    }
+
+    public String currentTimestamp() {
+        return currentCachedTimestamp().getText();
+    }
+
+    private CachedTimestamp currentCachedTimestamp() {
+        long now = clock.millis();
+        CachedTimestamp timestamp = cachedTimestamp;
+        if (timestamp.getEpochMilli() != now) {
+            String text = OffsetDateTime.ofInstant(Instant.ofEpochMilli(now), clock.getZone()).toString();
+            timestamp = new CachedTimestamp(now, text, text.getBytes(StandardCharsets.US_ASCII));
+            cachedTimestamp = timestamp;
+        }
+        return timestamp;
+    }
+
+    public final class Template {
+
+        private final HttpStatus status;
+        private final byte[] body;
+        private final Map<String, Counter> errorCounters = new ConcurrentHashMap<>();
+
+        private Template(HttpStatus status, String message) {
+            this.status = status;
+            this.body = serializeBody(status, message);
+        }
+
+        public void write(HttpServletResponse response, Exception ex, String path) throws IOException {
+            write(response, ex.getClass().getSimpleName(), path);
+        }
+
+        public void write(HttpServletResponse response, String errorType, String path) throws IOException {
+            errorCounters.computeIfAbsent(errorType, this::errorCounter).increment();
+            byte[] timestamp = currentCachedTimestamp().getBytes();
+            byte[] quotedPath = quote(path);
+            response.setStatus(status.value());
+            response.setContentType(CONTENT_TYPE);
+            response.setContentLength(TIMESTAMP_FIELD.length + timestamp.length + body.length + quotedPath.length + END_OBJECT.length);
+            ServletOutputStream outputStream = response.getOutputStream();
+            outputStream.write(TIMESTAMP_FIELD);
+            outputStream.write(timestamp);
+            outputStream.write(body);
+            outputStream.write(quotedPath);
+            outputStream.write(END_OBJECT);
+            outputStream.flush();
+        }
+
+        private byte[] serializeBody(HttpStatus status, String message) {
+            try {
+                String body = "\",\"status\":" + status.value()
+                        + ",\"error\":" + objectMapper.writeValueAsString(message)
+                        + ",\"path\":";
+                return body.getBytes(StandardCharsets.UTF_8);
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private byte[] quote(String path) {
+            byte[] escaped = JsonStringEncoder.getInstance().quoteAsUTF8(path);
+            byte[] quoted = new byte[escaped.length + 2];
+            quoted[0] = '"';
+            System.arraycopy(escaped, 0, quoted, 1, escaped.length);
+            quoted[quoted.length - 1] = '"';
+            return quoted;
+        }
+
+        private Counter errorCounter(String errorType) {
+            return meterRegistry.counter("api.errors",
+                    "exception", errorType,
+                    "status", String.valueOf(status.value())
+            );
+        }
+
+    }
+
+    @Value
+    private static class CachedTimestamp {
+
+        long epochMilli;
+        String text;
+        byte[] bytes;
+
+    }
+
+}
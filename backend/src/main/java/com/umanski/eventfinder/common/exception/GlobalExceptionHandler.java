@@ -1,10 +1,17 @@
 package com.umanski.eventfinder.common.exception;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.transaction.TransactionException;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -12,56 +19,102 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
-import java.time.OffsetDateTime;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @ControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private static final String CONNECTION_POOL_EXHAUSTED_MESSAGE = "Database connections exhausted, please retry later";
+
+    private final MeterRegistry meterRegistry;
+    private final ErrorResponseWriter errorResponseWriter;
+
+    @Value("${application.datasource.pools.fail-fast.retry-after}")
+    private Duration connectionPoolRetryAfter;
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleMethodArgumentNotValidException(MethodArgumentNotValidException ex, HttpServletRequest request) {
         List<String> errors = ex.getAllErrors().stream()
                 .map(DefaultMessageSourceResolvable::getDefaultMessage)
                 .collect(Collectors.toList());
         String errorMessage = String.join(", ", errors);
-        ErrorResponse errorResponse = createErrorResponse(HttpStatus.BAD_REQUEST, errorMessage, request);
+        ErrorResponse errorResponse = createErrorResponse(ex, HttpStatus.BAD_REQUEST, errorMessage, request);
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
     @ExceptionHandler(ValidationException.class)
     public ResponseEntity<ErrorResponse> handleCreationException(ValidationException ex, HttpServletRequest request) {
-        ErrorResponse errorResponse = createErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
+        ErrorResponse errorResponse = createErrorResponse(ex, HttpStatus.BAD_REQUEST, ex.getMessage(), request);
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNotFoundException(NotFoundException ex, HttpServletRequest request) {
+        ErrorResponse errorResponse = createErrorResponse(ex, HttpStatus.NOT_FOUND, ex.getMessage(), request);
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ErrorResponse> handleHttpMessageNotReadableException(HttpMessageNotReadableException ex, HttpServletRequest request) {
-        ErrorResponse errorResponse = createErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
+        ErrorResponse errorResponse = createErrorResponse(ex, HttpStatus.BAD_REQUEST, ex.getMessage(), request);
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
     @ExceptionHandler(MaxUploadSizeExceededException.class)
     public ResponseEntity<ErrorResponse> handleMaxUploadSizeExceededException(MaxUploadSizeExceededException ex, HttpServletRequest request) {
-        ErrorResponse errorResponse = createErrorResponse(HttpStatus.PAYLOAD_TOO_LARGE, ex.getMessage(), request);
+        ErrorResponse errorResponse = createErrorResponse(ex, HttpStatus.PAYLOAD_TOO_LARGE, ex.getMessage(), request);
         return new ResponseEntity<>(errorResponse, HttpStatus.PAYLOAD_TOO_LARGE);
     }
 
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
     public ResponseEntity<ErrorResponse> handleHttpRequestMethodNotSupportedException(HttpRequestMethodNotSupportedException ex, HttpServletRequest request) {
-        ErrorResponse errorResponse = createErrorResponse(HttpStatus.METHOD_NOT_ALLOWED, ex.getMessage(), request);
+        ErrorResponse errorResponse = createErrorResponse(ex, HttpStatus.METHOD_NOT_ALLOWED, ex.getMessage(), request);
         return new ResponseEntity<>(errorResponse, HttpStatus.METHOD_NOT_ALLOWED);
     }
 
     @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
     public ResponseEntity<ErrorResponse> handleHttpMediaTypeNotSupportedException(HttpMediaTypeNotSupportedException ex, HttpServletRequest request) {
-        ErrorResponse errorResponse = createErrorResponse(HttpStatus.UNSUPPORTED_MEDIA_TYPE, ex.getMessage(), request);
+        ErrorResponse errorResponse = createErrorResponse(ex, HttpStatus.UNSUPPORTED_MEDIA_TYPE, ex.getMessage(), request);
         return new ResponseEntity<>(errorResponse, HttpStatus.UNSUPPORTED_MEDIA_TYPE);
     }
 
-    private ErrorResponse createErrorResponse(HttpStatus status, String message, HttpServletRequest request) {
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(ServiceUnavailableException ex, HttpServletRequest request) {
+        ErrorResponse errorResponse = createErrorResponse(ex, HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), request);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler({DataAccessException.class, TransactionException.class, AuthenticationServiceException.class})
+    public ResponseEntity<ErrorResponse> handleConnectionPoolExhaustion(Exception ex, HttpServletRequest request) throws Exception {
+        if (!isConnectionPoolExhausted(ex)) {
+            throw ex;
+        }
+        return handleServiceUnavailableException(
+                new ServiceUnavailableException(CONNECTION_POOL_EXHAUSTED_MESSAGE, connectionPoolRetryAfter, ex), request);
+    }
+
+    private boolean isConnectionPoolExhausted(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ErrorResponse createErrorResponse(Exception ex, HttpStatus status, String message, HttpServletRequest request) {
+        meterRegistry.counter("api.errors",
+                "exception", ex.getClass().getSimpleName(),
+                "status", String.valueOf(status.value())
+        ).increment();
         return new ErrorResponse(
-                OffsetDateTime.now().toString(),
+                errorResponseWriter.currentTimestamp(),
                 status.value(),
                 message,
                 request.getRequestURI()
@@ -19,7 +19,7 @@ import java.util.UUID;
 public abstract class BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidV7Id
     private UUID id;
 
     @CreationTimestamp
@@ -0,0 +1,16 @@
+package com.umanski.eventfinder.common.model;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+@IdGeneratorType(UuidV7IdentifierGenerator.class)
+public @interface UuidV7Id {
+}
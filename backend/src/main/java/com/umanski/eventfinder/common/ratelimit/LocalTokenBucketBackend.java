@@ -0,0 +1,48 @@
+package com.umanski.eventfinder.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class LocalTokenBucketBackend implements RateLimitBackend {
+
+    private final Cache<String, AtomicLong> buckets;
+    private final LongSupplier nanoClock;
+
+    public LocalTokenBucketBackend(Duration idleTimeout, long maximumKeys) {
+        this(idleTimeout, maximumKeys, System::nanoTime);
+    }
+
+    LocalTokenBucketBackend(Duration idleTimeout, long maximumKeys, LongSupplier nanoClock) {
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(idleTimeout)
+                .maximumSize(maximumKeys)
+                .build();
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimitPolicy policy) {
+        long now = nanoClock.getAsLong();
+        AtomicLong theoreticalArrival = buckets.get(key, ignored -> new AtomicLong(now));
+        while (true) {
+            long current = theoreticalArrival.get();
+            long waitNanos = policy.waitNanos(current, now);
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, policy.nextTheoreticalArrival(current, now))) {
+                return 0L;
+            }
+        }
+    }
+
+    long trackedKeys() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.umanski.eventfinder.common.ratelimit;
+
+public interface RateLimitBackend {
+
+    long tryAcquire(String key, RateLimitPolicy policy);
+
+}
@@ -0,0 +1,33 @@
+package com.umanski.eventfinder.common.ratelimit;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class RateLimitPolicy {
+
+    private final String name;
+    private final long capacity;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+
+    public RateLimitPolicy(String name, long capacity, Duration refillInterval) {
+        if (capacity < 1 || refillInterval.isNegative() || refillInterval.isZero()) {
+            throw new IllegalArgumentException("Rate limit policy " + name + " needs a positive capacity and refill interval");
+        }
+        this.name = name;
+        this.capacity = capacity;
+        this.emissionIntervalNanos = refillInterval.toNanos();
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+    }
+
+    long waitNanos(long theoreticalArrivalNanos, long nowNanos) {
+        return Math.max(0L, theoreticalArrivalNanos - burstToleranceNanos - nowNanos);
+    }
+
+    long nextTheoreticalArrival(long theoreticalArrivalNanos, long nowNanos) {
+        return Math.max(theoreticalArrivalNanos, nowNanos) + emissionIntervalNanos;
+    }
+
+}
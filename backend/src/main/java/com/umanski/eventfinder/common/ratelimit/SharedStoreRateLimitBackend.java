@@ -0,0 +1,48 @@
+package com.umanski.eventfinder.common.ratelimit;
+
+import com.umanski.eventfinder.common.cache.SharedCacheStore;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+public class SharedStoreRateLimitBackend implements RateLimitBackend {
+
+    private static final String KEY_PREFIX = "rate-limit:";
+
+    private final SharedCacheStore sharedStore;
+    private final Clock clock;
+
+    public SharedStoreRateLimitBackend(SharedCacheStore sharedStore) {
+        this(sharedStore, Clock.systemUTC());
+    }
+
+    SharedStoreRateLimitBackend(SharedCacheStore sharedStore, Clock clock) {
+        this.sharedStore = sharedStore;
+        this.clock = clock;
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimitPolicy policy) {
+        String storeKey = KEY_PREFIX + key;
+        long now = TimeUnit.MILLISECONDS.toNanos(clock.millis());
+        while (true) {
+            Optional<byte[]> storedValue = sharedStore.get(storeKey);
+            long theoreticalArrival = storedValue.map(value -> ByteBuffer.wrap(value).getLong()).orElse(now);
+            long waitNanos = policy.waitNanos(theoreticalArrival, now);
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            long nextTheoreticalArrival = policy.nextTheoreticalArrival(theoreticalArrival, now);
+            byte[] newValue = ByteBuffer.allocate(Long.BYTES).putLong(nextTheoreticalArrival).array();
+            // Once the theoretical arrival has passed the key is as good as new, so the store may expire it
+            Duration timeToLive = Duration.ofMillis(TimeUnit.NANOSECONDS.toMillis(nextTheoreticalArrival - now) + 1);
+            if (sharedStore.compareAndSet(storeKey, storedValue.orElse(null), newValue, timeToLive)) {
+                return 0L;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.umanski.eventfinder.common.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+public final class EmailNormalizer {
+
+    private EmailNormalizer() {
+    }
+
+    public static String normalize(String email) {
+        if (email == null) {
+            return null;
+        }
+        return Normalizer.normalize(email.strip(), Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+}
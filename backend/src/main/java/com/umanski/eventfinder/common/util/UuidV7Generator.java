@@ -0,0 +1,45 @@
+package com.umanski.eventfinder.common.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+public class UuidV7Generator {
+
+    private static final UuidV7Generator INSTANCE = new UuidV7Generator(System::currentTimeMillis);
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long COUNTER_SEED_BOUND = 1L << (COUNTER_BITS - 1);
+    private static final long TIMESTAMP_MASK = (1L << 48) - 1;
+    private static final long VERSION_BITS = 0x7L << COUNTER_BITS;
+    private static final long VARIANT_BITS = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private final LongSupplier clock;
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    public UuidV7Generator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public static UuidV7Generator getInstance() {
+        return INSTANCE;
+    }
+
+    public UUID generate() {
+        long timestampAndCounter = lastTimestampAndCounter.updateAndGet(this::advance);
+        long timestamp = (timestampAndCounter >>> COUNTER_BITS) & TIMESTAMP_MASK;
+        long counter = timestampAndCounter & COUNTER_MASK;
+        long mostSigBits = timestamp << 16 | VERSION_BITS | counter;
+        long leastSigBits = ThreadLocalRandom.current().nextLong() & RANDOM_MASK | VARIANT_BITS;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private long advance(long previous) {
+        long candidate = clock.getAsLong() << COUNTER_BITS | ThreadLocalRandom.current().nextLong(COUNTER_SEED_BOUND);
+        return candidate > previous ? candidate : previous + 1;
+    }
+
+}
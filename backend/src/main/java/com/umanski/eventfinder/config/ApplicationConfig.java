@@ -1,9 +1,7 @@
 package com.umanski.eventfinder.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.umanski.eventfinder.common.exception.ErrorResponse;
+import com.umanski.eventfinder.common.exception.ErrorResponseWriter;
 import com.umanski.eventfinder.user.UserService;
-import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,27 +10,27 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.access.AccessDeniedHandler;
 
-import java.io.IOException;
-import java.time.OffsetDateTime;
-
 @Configuration
 @RequiredArgsConstructor
 public class ApplicationConfig {
 
     private final UserService userService;
+    private final PasswordEncoder passwordEncoder;
+    private final ErrorResponseWriter errorResponseWriter;
 
     @Bean
     public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService());
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService());
         return authProvider;
     }
 
@@ -43,50 +41,25 @@ public class ApplicationConfig {
     }
 
     @Bean
-    public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
-        return config.getAuthenticationManager();
+    public UserDetailsPasswordService userDetailsPasswordService() {
+        return (user, newPassword) -> userService.updatePassword(user.getUsername(), newPassword);
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
+        return config.getAuthenticationManager();
     }
 
     @Bean
     public AuthenticationEntryPoint authenticationEntryPoint() {
-        return (request, response, ex) -> writeErrorResponse(
-                response,
-                HttpStatus.UNAUTHORIZED,
-                "Authentication Failed",
-                request.getRequestURI()
-        );
+        ErrorResponseWriter.Template template = errorResponseWriter.template(HttpStatus.UNAUTHORIZED, "Authentication Failed");
+        return (request, response, ex) -> template.write(response, ex, request.getRequestURI());
     }
 
     @Bean
     public AccessDeniedHandler accessDeniedHandler() {
-        return (request, response, ex) -> writeErrorResponse(
-                response,
-                HttpStatus.NOT_FOUND,
-                "Not Found",
-                request.getRequestURI()
-        );
-    }
-
-    private void writeErrorResponse(HttpServletResponse response, HttpStatus status, String message, String path) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
-        response.setStatus(status.value());
-
-        ErrorResponse responseBody = new ErrorResponse(
-                OffsetDateTime.now().toString(),
-                status.value(),
-                message,
-                path
-        );
-
-        mapper.writeValue(response.getWriter(), responseBody);
+        ErrorResponseWriter.Template template = errorResponseWriter.template(HttpStatus.NOT_FOUND, "Not Found");
+        return (request, response, ex) -> template.write(response, ex, request.getRequestURI());
     }
 
 }
@@ -0,0 +1,136 @@
+package com.umanski.eventfinder.config;
+
+import com.umanski.eventfinder.common.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private static final String UNAVAILABLE_MESSAGE = "Password hashing capacity exhausted, please retry later";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Duration retryAfter;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter saturatedRejections;
+    private final Counter timeoutRejections;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int poolSize, int queueCapacity, Duration timeout, Duration retryAfter,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeout = timeout;
+        this.retryAfter = retryAfter;
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new PasswordHashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.encodeTimer = hashingTimer("encode", meterRegistry);
+        this.matchesTimer = hashingTimer("matches", meterRegistry);
+        this.queueWaitTimer = Timer.builder("auth.password.queue.wait")
+                .description("Time a password hashing task waited for a free hashing thread")
+                .register(meterRegistry);
+        this.saturatedRejections = rejectionCounter("saturated", meterRegistry);
+        this.timeoutRejections = rejectionCounter("timeout", meterRegistry);
+        Gauge.builder("auth.password.queue.size", executor, pool -> pool.getQueue().size())
+                .description("Password hashing tasks waiting for a free hashing thread")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    int queuedTasks() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Timer hashingTimer, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashingTimer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            saturatedRejections.increment();
+            throw new ServiceUnavailableException(UNAVAILABLE_MESSAGE, retryAfter, e);
+        }
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeoutRejections.increment();
+            future.cancel(true);
+            throw new ServiceUnavailableException(UNAVAILABLE_MESSAGE, retryAfter, e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(UNAVAILABLE_MESSAGE, retryAfter, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static Timer hashingTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("auth.password.hashing")
+                .description("Time spent hashing or verifying a password on a hashing thread")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private static Counter rejectionCounter(String reason, MeterRegistry meterRegistry) {
+        return Counter.builder("auth.password.rejected")
+                .description("Password hashing requests rejected with 503")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static class PasswordHashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
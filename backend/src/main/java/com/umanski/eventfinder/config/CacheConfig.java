@@ -0,0 +1,87 @@
+package com.umanski.eventfinder.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.umanski.eventfinder.common.cache.BroadcastInvalidatedCache;
+import com.umanski.eventfinder.common.cache.CacheInvalidationBus;
+import com.umanski.eventfinder.common.cache.EmbeddedSharedCacheStore;
+import com.umanski.eventfinder.common.cache.SharedCacheStore;
+import com.umanski.eventfinder.common.cache.TwoLevelCache;
+import com.umanski.eventfinder.user.model.security.UserPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String USERS_CACHE = "users";
+    public static final String PRINCIPALS_CACHE = "principals";
+
+    private static final String SHARED_CACHE_PROPERTY = "application.cache.shared.enabled";
+
+    @Value("${application.cache.users.maximum-size}")
+    private long usersMaximumSize;
+    @Value("${application.cache.users.expire-after-write}")
+    private Duration usersExpireAfterWrite;
+
+    @Bean
+    @ConditionalOnProperty(name = SHARED_CACHE_PROPERTY, havingValue = "true")
+    public SharedCacheStore sharedCacheStore() {
+        return new EmbeddedSharedCacheStore();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = SHARED_CACHE_PROPERTY, havingValue = "true")
+    public CacheInvalidationBus cacheInvalidationBus(SharedCacheStore sharedCacheStore, MeterRegistry meterRegistry) {
+        return new CacheInvalidationBus(sharedCacheStore, meterRegistry);
+    }
+
+    @Bean
+    public CacheManager cacheManager(ObjectProvider<SharedCacheStore> sharedCacheStore, ObjectProvider<CacheInvalidationBus> cacheInvalidationBus,
+                                     ObjectProvider<ObjectMapper> objectMapper, ObjectProvider<MeterRegistry> meterRegistry) {
+        SharedCacheStore sharedStore = sharedCacheStore.getIfAvailable();
+        if (sharedStore == null) {
+            CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+            cacheManager.setAllowNullValues(false);
+            cacheManager.registerCustomCache(USERS_CACHE, usersCache());
+            cacheManager.registerCustomCache(PRINCIPALS_CACHE, usersCache());
+            return cacheManager;
+        }
+        CacheInvalidationBus invalidationBus = cacheInvalidationBus.getObject();
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+                new BroadcastInvalidatedCache(USERS_CACHE, usersCache(), invalidationBus),
+                new TwoLevelCache(PRINCIPALS_CACHE, usersCache(), sharedStore, invalidationBus,
+                        objectMapper.getObject(), UserPrincipal.class, usersExpireAfterWrite, meterRegistry.getObject())));
+        return cacheManager;
+    }
+
+    @Bean
+    public CacheMeterBinderProvider<TwoLevelCache> twoLevelCacheMeterBinderProvider() {
+        return (cache, tags) -> new CaffeineCacheMetrics<>(cache.getNativeCache(), cache.getName(), tags);
+    }
+
+    private Cache<Object, Object> usersCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(usersMaximumSize)
+                .expireAfterWrite(usersExpireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+}
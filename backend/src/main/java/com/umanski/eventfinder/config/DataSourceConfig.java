@@ -0,0 +1,86 @@
+package com.umanski.eventfinder.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Slf4j
+@Configuration
+public class DataSourceConfig {
+
+    private static final String SHARED_POOL_PREFIX = "spring.datasource.hikari";
+    private static final String POOL_PREFIX = "application.datasource.pools.";
+
+    @Value("${application.datasource.replica.enabled}")
+    private boolean replicaEnabled;
+    @Value("${application.datasource.replica.url}")
+    private String replicaUrl;
+    @Value("${application.datasource.replica.username}")
+    private String replicaUsername;
+    @Value("${application.datasource.replica.password}")
+    private String replicaPassword;
+    @Value("${application.datasource.pools.fail-fast.enabled}")
+    private boolean failFast;
+    @Value("${application.datasource.pools.fail-fast.connection-timeout}")
+    private Duration failFastConnectionTimeout;
+
+    @Bean
+    public HikariDataSource writeDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        return configurePool(dataSource, "write", environment);
+    }
+
+    @Bean
+    public HikariDataSource readDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(replicaEnabled ? replicaUrl : properties.determineUrl())
+                .username(replicaEnabled ? replicaUsername : properties.determineUsername())
+                .password(replicaEnabled ? replicaPassword : properties.determinePassword())
+                .build();
+        dataSource.setReadOnly(true);
+        return configurePool(dataSource, "read", environment);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writeDataSource") HikariDataSource writeDataSource,
+                                 @Qualifier("readDataSource") HikariDataSource readDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(writeDataSource);
+        dataSource.setReadOnlyDataSource(new ReadPoolRoutingDataSource(writeDataSource, readDataSource));
+        if (replicaEnabled) {
+            log.info("Routing read-only transactions to replica {}", replicaUrl);
+        }
+        return dataSource;
+    }
+
+    private HikariDataSource configurePool(HikariDataSource dataSource, String poolName, Environment environment) {
+        Binder binder = Binder.get(environment);
+        binder.bind(SHARED_POOL_PREFIX, Bindable.ofInstance(dataSource));
+        binder.bind(POOL_PREFIX + poolName, Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(poolName);
+        if (failFast) {
+            dataSource.setConnectionTimeout(failFastConnectionTimeout.toMillis());
+        }
+        log.info("Configured {} connection pool with {} connections and {} ms connection timeout",
+                poolName, dataSource.getMaximumPoolSize(), dataSource.getConnectionTimeout());
+        return dataSource;
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.umanski.eventfinder.config;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.umanski.eventfinder.common.exception.ErrorResponseWriter;
+import com.umanski.eventfinder.common.ratelimit.RateLimitBackend;
+import com.umanski.eventfinder.common.ratelimit.RateLimitPolicy;
+import com.umanski.eventfinder.common.util.EmailNormalizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> RATE_LIMITED_PATHS = Set.of("/api/v1/auth/authenticate", "/api/v1/auth/register");
+    private static final String EMAIL_FIELD = "email";
+    private static final String RATE_LIMITED_ERROR = "RateLimitExceeded";
+    private static final String BODY_TOO_LARGE_ERROR = "PayloadTooLarge";
+
+    private final RateLimitBackend rateLimitBackend;
+    private final ObjectMapper objectMapper;
+    private final ErrorResponseWriter.Template tooManyRequestsTemplate;
+    private final ErrorResponseWriter.Template payloadTooLargeTemplate;
+    private final boolean enabled;
+    private final int maxBodyBytes;
+    private final RateLimitPolicy ipPolicy;
+    private final RateLimitPolicy emailPolicy;
+    private final Counter ipRejections;
+    private final Counter emailRejections;
+
+    public LoginRateLimitFilter(RateLimitBackend rateLimitBackend,
+                                ObjectMapper objectMapper,
+                                ErrorResponseWriter errorResponseWriter,
+                                MeterRegistry meterRegistry,
+                                @Value("${application.security.rate-limit.enabled}") boolean enabled,
+                                @Value("${application.security.rate-limit.ip.capacity}") long ipCapacity,
+                                @Value("${application.security.rate-limit.ip.refill-interval}") Duration ipRefillInterval,
+                                @Value("${application.security.rate-limit.email.capacity}") long emailCapacity,
+                                @Value("${application.security.rate-limit.email.refill-interval}") Duration emailRefillInterval,
+                                @Value("${application.security.rate-limit.max-body-size}") DataSize maxBodySize) {
+        this.rateLimitBackend = rateLimitBackend;
+        this.objectMapper = objectMapper;
+        this.tooManyRequestsTemplate = errorResponseWriter.template(HttpStatus.TOO_MANY_REQUESTS, "Too many attempts, please retry later");
+        this.payloadTooLargeTemplate = errorResponseWriter.template(HttpStatus.PAYLOAD_TOO_LARGE, "Request body is too large");
+        this.enabled = enabled;
+        this.maxBodyBytes = Math.toIntExact(maxBodySize.toBytes());
+        this.ipPolicy = new RateLimitPolicy("ip", ipCapacity, ipRefillInterval);
+        this.emailPolicy = new RateLimitPolicy("email", emailCapacity, emailRefillInterval);
+        this.ipRejections = rejectionCounter("ip", meterRegistry);
+        this.emailRejections = rejectionCounter("email", meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled
+                || !HttpMethod.POST.matches(request.getMethod())
+                || !RATE_LIMITED_PATHS.contains(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
+        long waitNanos = rateLimitBackend.tryAcquire("ip:" + request.getRemoteAddr(), ipPolicy);
+        if (waitNanos > 0) {
+            ipRejections.increment();
+            reject(request, response, waitNanos);
+            return;
+        }
+        byte[] body = readBody(request);
+        if (body == null) {
+            payloadTooLargeTemplate.write(response, BODY_TOO_LARGE_ERROR, request.getRequestURI());
+            return;
+        }
+        CachedBodyHttpServletRequest cachedRequest = new CachedBodyHttpServletRequest(request, body);
+        String email = extractEmail(cachedRequest.getBody());
+        if (email != null) {
+            waitNanos = rateLimitBackend.tryAcquire("email:" + email, emailPolicy);
+            if (waitNanos > 0) {
+                emailRejections.increment();
+                reject(request, response, waitNanos);
+                return;
+            }
+        }
+        filterChain.doFilter(cachedRequest, response);
+    }
+
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            return null;
+        }
+        byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        return body.length > maxBodyBytes ? null : body;
+    }
+
+    private String extractEmail(byte[] body) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (EMAIL_FIELD.equals(fieldName) && value == JsonToken.VALUE_STRING) {
+                    return EmailNormalizer.normalize(parser.getText());
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        tooManyRequestsTemplate.write(response, RATE_LIMITED_ERROR, request.getRequestURI());
+    }
+
+    private static Counter rejectionCounter(String key, MeterRegistry meterRegistry) {
+        return Counter.builder("auth.rate.limited")
+                .description("Login and registration attempts rejected with 429")
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.umanski.eventfinder.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Slf4j
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final String BCRYPT_ID = "bcrypt";
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    @Value("${application.security.password.bcrypt.strength}")
+    private int strength;
+    @Value("${application.security.password.bcrypt.target-latency}")
+    private Duration targetLatency;
+    @Value("${application.security.password.bcrypt.min-strength}")
+    private int minStrength;
+    @Value("${application.security.password.bcrypt.max-strength}")
+    private int maxStrength;
+    @Value("${application.security.password.hashing.pool-size}")
+    private int poolSize;
+    @Value("${application.security.password.hashing.queue-capacity}")
+    private int queueCapacity;
+    @Value("${application.security.password.hashing.timeout}")
+    private Duration timeout;
+    @Value("${application.security.password.hashing.retry-after}")
+    private Duration retryAfter;
+
+    @Bean
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder(resolveStrength());
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bCryptPasswordEncoder));
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bCryptPasswordEncoder);
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(delegatingPasswordEncoder, threads, queueCapacity, timeout, retryAfter, meterRegistry);
+    }
+
+    private int resolveStrength() {
+        if (strength > 0) {
+            log.info("Using configured BCrypt strength {}", strength);
+            return strength;
+        }
+        int calibratedStrength = calibrateStrength();
+        log.info("Calibrated BCrypt strength {} for target latency {} ms", calibratedStrength, targetLatency.toMillis());
+        return calibratedStrength;
+    }
+
+    private int calibrateStrength() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        encoder.encode(CALIBRATION_PASSWORD);
+        long start = System.nanoTime();
+        encoder.encode(CALIBRATION_PASSWORD);
+        long minStrengthNanos = Math.max(1, System.nanoTime() - start);
+        int calibratedStrength = minStrength;
+        long estimatedNanos = minStrengthNanos;
+        while (calibratedStrength < maxStrength && estimatedNanos * 2 <= targetLatency.toNanos()) {
+            calibratedStrength++;
+            estimatedNanos *= 2;
+        }
+        return calibratedStrength;
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.umanski.eventfinder.config;
+
+import com.umanski.eventfinder.user.model.entity.User;
+import com.umanski.eventfinder.user.model.enums.Permission;
+import com.umanski.eventfinder.user.model.enums.Role;
+import com.umanski.eventfinder.user.model.security.UserPrincipal;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+@Component("permissions")
+public class PermissionChecker {
+
+    public boolean has(Permission permission) {
+        Role role = currentRole();
+        return role != null && role.hasPermission(permission);
+    }
+
+    public boolean hasAll(long requiredMask) {
+        Role role = currentRole();
+        return role != null && role.hasAllPermissions(requiredMask);
+    }
+
+    private Role currentRole() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        if (authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getRole();
+        }
+        if (authentication.getPrincipal() instanceof User user) {
+            return user.getRole();
+        }
+        return null;
+    }
+
+}
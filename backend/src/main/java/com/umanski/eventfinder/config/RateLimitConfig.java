@@ -0,0 +1,41 @@
+package com.umanski.eventfinder.config;
+
+import com.umanski.eventfinder.common.cache.SharedCacheStore;
+import com.umanski.eventfinder.common.ratelimit.LocalTokenBucketBackend;
+import com.umanski.eventfinder.common.ratelimit.RateLimitBackend;
+import com.umanski.eventfinder.common.ratelimit.SharedStoreRateLimitBackend;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class RateLimitConfig {
+
+    private static final String BACKEND_PROPERTY = "application.security.rate-limit.backend";
+
+    @Value("${application.security.rate-limit.idle-timeout}")
+    private Duration idleTimeout;
+    @Value("${application.security.rate-limit.maximum-keys}")
+    private long maximumKeys;
+
+    @Bean
+    @ConditionalOnProperty(name = BACKEND_PROPERTY, havingValue = "local", matchIfMissing = true)
+    public RateLimitBackend localRateLimitBackend() {
+        return new LocalTokenBucketBackend(idleTimeout, maximumKeys);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = BACKEND_PROPERTY, havingValue = "shared")
+    public RateLimitBackend sharedRateLimitBackend(ObjectProvider<SharedCacheStore> sharedCacheStore) {
+        SharedCacheStore sharedStore = sharedCacheStore.getIfAvailable();
+        if (sharedStore == null) {
+            throw new IllegalStateException(BACKEND_PROPERTY + "=shared needs application.cache.shared.enabled=true");
+        }
+        return new SharedStoreRateLimitBackend(sharedStore);
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.umanski.eventfinder.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+class ReadPoolRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String WRITE_POOL = "write";
+    private static final String READ_POOL = "read";
+    private static final ThreadLocal<Boolean> WRITE_POOL_FORCED = ThreadLocal.withInitial(() -> false);
+
+    ReadPoolRoutingDataSource(DataSource writePool, DataSource readPool) {
+        setTargetDataSources(Map.of(WRITE_POOL, writePool, READ_POOL, readPool));
+        setDefaultTargetDataSource(readPool);
+        afterPropertiesSet();
+    }
+
+    static <T> T onWritePool(Supplier<T> work) {
+        if (WRITE_POOL_FORCED.get()) {
+            return work.get();
+        }
+        WRITE_POOL_FORCED.set(true);
+        try {
+            return work.get();
+        } finally {
+            WRITE_POOL_FORCED.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WRITE_POOL_FORCED.get() ? WRITE_POOL : READ_POOL;
+    }
+
+}
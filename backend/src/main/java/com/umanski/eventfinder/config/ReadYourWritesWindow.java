@@ -0,0 +1,51 @@
+package com.umanski.eventfinder.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+@Component
+public class ReadYourWritesWindow {
+
+    private final boolean enabled;
+    private final Cache<String, Boolean> recentWrites;
+
+    public ReadYourWritesWindow(@Value("${application.datasource.replica.enabled}") boolean enabled,
+                                @Value("${application.datasource.replica.read-your-writes.window}") Duration window,
+                                @Value("${application.datasource.replica.read-your-writes.maximum-size}") long maximumSize) {
+        this.enabled = enabled;
+        this.recentWrites = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    public void recordWrite(String key) {
+        if (!enabled || key == null) {
+            return;
+        }
+        recentWrites.put(key, Boolean.TRUE);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    recentWrites.put(key, Boolean.TRUE);
+                }
+            });
+        }
+    }
+
+    public <T> T read(String key, Supplier<T> query) {
+        if (enabled && key != null && recentWrites.getIfPresent(key) != null) {
+            return ReadPoolRoutingDataSource.onWritePool(query);
+        }
+        return query.get();
+    }
+
+}
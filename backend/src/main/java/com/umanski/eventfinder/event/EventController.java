@@ -0,0 +1,151 @@
+package com.umanski.eventfinder.event;
+
+import com.umanski.eventfinder.common.exception.ErrorResponse;
+import com.umanski.eventfinder.event.model.dto.*;
+import com.umanski.eventfinder.user.model.security.UserPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@Validated
+@RestController
+@RequestMapping("/api/v1/events")
+@RequiredArgsConstructor
+class EventController {
+
+    private final EventService eventService;
+
+    @Operation(operationId = "create-event", summary = "Create an Event", tags = {"Events"},
+            description = "Service used to create a new event organized by the authenticated user.",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Event created", content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = EventDto.class)
+                    )),
+                    @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )),
+                    @ApiResponse(responseCode = "405", description = "Method Not Allowed", content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )),
+                    @ApiResponse(responseCode = "415", description = "Unsupported Media Type", content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    ))
+            }
+    )
+    @PostMapping(produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EventDto> createEvent(@AuthenticationPrincipal UserPrincipal principal, @Valid @RequestBody CreateEventDto createEventDto) {
+        EventDto eventDto = eventService.createEvent(principal, createEventDto);
+        return new ResponseEntity<>(eventDto, HttpStatus.CREATED);
+    }
+
+    @Operation(operationId = "list-events", summary = "List upcoming Events", tags = {"Events"},
+            description = "Service used to page through upcoming events ordered by start time. Pass the returned cursor to fetch the next page.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Events page", content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = EventPageDto.class)
+                    )),
+                    @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    ))
+            }
+    )
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EventPageDto> listEvents(@ParameterObject @Valid EventListingDto listingDto) {
+        return ResponseEntity.ok(eventService.listEvents(listingDto));
+    }
+
+    @Operation(operationId = "get-event", summary = "Get an Event", tags = {"Events"},
+            description = "Service used to fetch a single event by its identifier.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Event found", content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = EventDto.class)
+                    )),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )),
+                    @ApiResponse(responseCode = "404", description = "Not Found", content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    ))
+            }
+    )
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<EventDto> getEvent(@PathVariable UUID id) {
+        return ResponseEntity.ok(eventService.getEvent(id));
+    }
+
+    @Operation(operationId = "find-events-nearby", summary = "Find Events nearby", tags = {"Events"},
+            description = "Service used to find events within a radius of a location, ordered by distance.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Events found", content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = NearbyEventDto.class))
+                    )),
+                    @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    ))
+            }
+    )
+    @GetMapping(value = "/nearby", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<NearbyEventDto>> findEventsNearby(@ParameterObject @Valid NearbyEventsSearchDto searchDto) {
+        return ResponseEntity.ok(eventService.findEventsNearby(searchDto));
+    }
+
+    @Operation(operationId = "find-events-within", summary = "Find Events within a bounding box", tags = {"Events"},
+            description = "Service used to find events inside a bounding box, ordered by start time.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Events found", content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = EventDto.class))
+                    )),
+                    @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    ))
+            }
+    )
+    @GetMapping(value = "/within", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<EventDto>> findEventsWithin(@ParameterObject @Valid BoundingBoxSearchDto searchDto) {
+        return ResponseEntity.ok(eventService.findEventsWithin(searchDto));
+    }
+
+}
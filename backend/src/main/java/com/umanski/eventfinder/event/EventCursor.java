@@ -0,0 +1,47 @@
+package com.umanski.eventfinder.event;
+
+import com.umanski.eventfinder.event.exception.InvalidCursorException;
+import com.umanski.eventfinder.event.model.entity.Event;
+import lombok.Value;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+@Value
+class EventCursor {
+
+    private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+
+    Instant startTime;
+    UUID id;
+
+    static EventCursor of(Event event) {
+        return new EventCursor(event.getStartTime(), event.getId());
+    }
+
+    static EventCursor decode(String cursor) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+            if (bytes.length != ENCODED_BYTES) {
+                throw new IllegalArgumentException("Unexpected cursor length: " + bytes.length);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            Instant startTime = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+            return new EventCursor(startTime, new UUID(buffer.getLong(), buffer.getLong()));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid cursor", e);
+        }
+    }
+
+    String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+                .putLong(startTime.getEpochSecond())
+                .putInt(startTime.getNano())
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+}
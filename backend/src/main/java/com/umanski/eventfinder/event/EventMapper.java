@@ -0,0 +1,24 @@
+package com.umanski.eventfinder.event;
+
+import com.umanski.eventfinder.event.model.dto.CreateEventDto;
+import com.umanski.eventfinder.event.model.dto.EventDto;
+import com.umanski.eventfinder.event.model.entity.Event;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.factory.Mappers;
+
+@Mapper(componentModel = "spring")
+interface EventMapper {
+
+    EventMapper INSTANCE = Mappers.getMapper(EventMapper.class);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "organizer", ignore = true)
+    @Mapping(target = "creationTimestamp", ignore = true)
+    @Mapping(target = "updateTimestamp", ignore = true)
+    Event toEvent(CreateEventDto createEventDto);
+
+    @Mapping(target = "organizerId", source = "organizer.id")
+    EventDto toEventDto(Event event);
+
+}
@@ -0,0 +1,69 @@
+package com.umanski.eventfinder.event;
+
+import com.umanski.eventfinder.event.model.entity.Event;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+interface EventRepository extends JpaRepository<Event, UUID> {
+
+    String LOCATION_IN_BOUNDING_BOX = """
+            (point(e.longitude, e.latitude) <@ box(point(:westMinLongitude, :minLatitude), point(:westMaxLongitude, :maxLatitude))
+             or point(e.longitude, e.latitude) <@ box(point(:eastMinLongitude, :minLatitude), point(:eastMaxLongitude, :maxLatitude)))
+            """;
+
+    String HAVERSINE_DISTANCE = """
+            (2 * 6371008.8 * asin(least(1.0, sqrt(
+                power(sin(radians(e.latitude - :latitude) / 2), 2)
+                + cos(radians(:latitude)) * cos(radians(e.latitude)) * power(sin(radians(e.longitude - :longitude) / 2), 2)))))
+            """;
+
+    @Query("select e from Event e where e.startTime >= :from order by e.startTime, e.id")
+    List<Event> findEventsStartingFrom(@Param("from") Instant from, Limit limit);
+
+    @Query("select e from Event e where (e.startTime, e.id) > (:startTime, :id) order by e.startTime, e.id")
+    List<Event> findEventsAfter(@Param("startTime") Instant startTime, @Param("id") UUID id, Limit limit);
+
+    @Query(value = "select e.* from events e where " + LOCATION_IN_BOUNDING_BOX + """
+            and e.end_time >= :from
+            and e.start_time <= :to
+            and """ + HAVERSINE_DISTANCE + """
+             <= :radius
+            order by """ + HAVERSINE_DISTANCE + """
+            limit :limit
+            """, nativeQuery = true)
+    List<Event> findEventsNearby(@Param("latitude") double latitude,
+                                 @Param("longitude") double longitude,
+                                 @Param("radius") double radius,
+                                 @Param("minLatitude") double minLatitude,
+                                 @Param("maxLatitude") double maxLatitude,
+                                 @Param("westMinLongitude") double westMinLongitude,
+                                 @Param("westMaxLongitude") double westMaxLongitude,
+                                 @Param("eastMinLongitude") double eastMinLongitude,
+                                 @Param("eastMaxLongitude") double eastMaxLongitude,
+                                 @Param("from") Instant from,
+                                 @Param("to") Instant to,
+                                 @Param("limit") int limit);
+
+    @Query(value = "select e.* from events e where " + LOCATION_IN_BOUNDING_BOX + """
+            and e.end_time >= :from
+            and e.start_time <= :to
+            order by e.start_time, e.id
+            limit :limit
+            """, nativeQuery = true)
+    List<Event> findEventsWithin(@Param("minLatitude") double minLatitude,
+                                 @Param("maxLatitude") double maxLatitude,
+                                 @Param("westMinLongitude") double westMinLongitude,
+                                 @Param("westMaxLongitude") double westMaxLongitude,
+                                 @Param("eastMinLongitude") double eastMinLongitude,
+                                 @Param("eastMaxLongitude") double eastMaxLongitude,
+                                 @Param("from") Instant from,
+                                 @Param("to") Instant to,
+                                 @Param("limit") int limit);
+
+}
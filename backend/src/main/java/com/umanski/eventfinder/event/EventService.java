@@ -0,0 +1,21 @@
+package com.umanski.eventfinder.event;
+
+import com.umanski.eventfinder.event.model.dto.*;
+import com.umanski.eventfinder.user.model.security.UserPrincipal;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface EventService {
+
+    EventDto createEvent(UserPrincipal organizer, CreateEventDto createEventDto);
+
+    EventDto getEvent(UUID id);
+
+    EventPageDto listEvents(EventListingDto listingDto);
+
+    List<NearbyEventDto> findEventsNearby(NearbyEventsSearchDto searchDto);
+
+    List<EventDto> findEventsWithin(BoundingBoxSearchDto searchDto);
+
+}
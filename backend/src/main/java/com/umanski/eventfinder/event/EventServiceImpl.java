@@ -0,0 +1,127 @@
+package com.umanski.eventfinder.event;
+
+import com.umanski.eventfinder.event.exception.EventNotFoundException;
+import com.umanski.eventfinder.event.exception.EventSaveException;
+import com.umanski.eventfinder.event.model.dto.*;
+import com.umanski.eventfinder.event.model.entity.Event;
+import com.umanski.eventfinder.user.UserService;
+import com.umanski.eventfinder.user.model.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+class EventServiceImpl implements EventService {
+
+    @Value("${application.events.search.default-window}")
+    private Duration defaultSearchWindow;
+
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final UserService userService;
+
+    @Override
+    @Transactional
+    public EventDto createEvent(UserPrincipal organizer, CreateEventDto createEventDto) {
+        createEventDto.trimFields();
+        Event event = eventMapper.toEvent(createEventDto);
+        event.setOrganizer(userService.getUserReference(organizer.getId()));
+        return eventMapper.toEventDto(persistEvent(event));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EventDto getEvent(UUID id) {
+        return eventRepository.findById(id)
+                .map(eventMapper::toEventDto)
+                .orElseThrow(() -> new EventNotFoundException("Event not found"));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EventPageDto listEvents(EventListingDto listingDto) {
+        Limit limit = Limit.of(listingDto.getLimit() + 1);
+        List<Event> events = listingDto.getCursor() != null
+                ? findEventsAfter(EventCursor.decode(listingDto.getCursor()), limit)
+                : eventRepository.findEventsStartingFrom(resolveFrom(listingDto.getFrom()), limit);
+        if (events.size() <= listingDto.getLimit()) {
+            return new EventPageDto(events.stream().map(eventMapper::toEventDto).toList(), null);
+        }
+        List<Event> page = events.subList(0, listingDto.getLimit());
+        String nextCursor = EventCursor.of(page.getLast()).encode();
+        return new EventPageDto(page.stream().map(eventMapper::toEventDto).toList(), nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<NearbyEventDto> findEventsNearby(NearbyEventsSearchDto searchDto) {
+        double latitude = searchDto.getLatitude();
+        double longitude = searchDto.getLongitude();
+        GeoBoundingBox boundingBox = GeoBoundingBox.around(latitude, longitude, searchDto.getRadius());
+        Instant from = resolveFrom(searchDto.getFrom());
+        return eventRepository.findEventsNearby(
+                        latitude, longitude, searchDto.getRadius(),
+                        boundingBox.getMinLatitude(), boundingBox.getMaxLatitude(),
+                        boundingBox.getWestMinLongitude(), boundingBox.getWestMaxLongitude(),
+                        boundingBox.getEastMinLongitude(), boundingBox.getEastMaxLongitude(),
+                        from, resolveTo(from, searchDto.getTo()), searchDto.getLimit()
+                ).stream()
+                .map(event -> new NearbyEventDto(
+                        eventMapper.toEventDto(event),
+                        GeoBoundingBox.distanceMeters(latitude, longitude, event.getLatitude(), event.getLongitude())
+                ))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EventDto> findEventsWithin(BoundingBoxSearchDto searchDto) {
+        GeoBoundingBox boundingBox = GeoBoundingBox.of(
+                searchDto.getMinLatitude(), searchDto.getMinLongitude(),
+                searchDto.getMaxLatitude(), searchDto.getMaxLongitude()
+        );
+        Instant from = resolveFrom(searchDto.getFrom());
+        return eventRepository.findEventsWithin(
+                        boundingBox.getMinLatitude(), boundingBox.getMaxLatitude(),
+                        boundingBox.getWestMinLongitude(), boundingBox.getWestMaxLongitude(),
+                        boundingBox.getEastMinLongitude(), boundingBox.getEastMaxLongitude(),
+                        from, resolveTo(from, searchDto.getTo()), searchDto.getLimit()
+                ).stream()
+                .map(eventMapper::toEventDto)
+                .toList();
+    }
+
+    private List<Event> findEventsAfter(EventCursor cursor, Limit limit) {
+        return eventRepository.findEventsAfter(cursor.getStartTime(), cursor.getId(), limit);
+    }
+
+    private Instant resolveFrom(Instant from) {
+        return from != null ? from : Instant.now();
+    }
+
+    private Instant resolveTo(Instant from, Instant to) {
+        return to != null ? to : from.plus(defaultSearchWindow);
+    }
+
+    private Event persistEvent(Event event) {
+        try {
+            Event savedEvent = eventRepository.save(event);
+            log.info("Created event with id: {}", savedEvent.getId());
+            return savedEvent;
+        } catch (Exception e) {
+            log.error("Failed to create event for organizer with id: {}", event.getOrganizer().getId(), e);
+            throw new EventSaveException("Failed to create event", e);
+        }
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.umanski.eventfinder.event;
+
+import lombok.Value;
+
+@Value
+class GeoBoundingBox {
+
+    static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    double minLatitude;
+    double maxLatitude;
+    double westMinLongitude;
+    double westMaxLongitude;
+    double eastMinLongitude;
+    double eastMaxLongitude;
+
+    static GeoBoundingBox of(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+        if (minLongitude <= maxLongitude) {
+            return new GeoBoundingBox(minLatitude, maxLatitude, minLongitude, maxLongitude, minLongitude, maxLongitude);
+        }
+        return new GeoBoundingBox(minLatitude, maxLatitude, minLongitude, 180.0, -180.0, maxLongitude);
+    }
+
+    static GeoBoundingBox around(double latitude, double longitude, double radiusMeters) {
+        double angularRadius = radiusMeters / EARTH_RADIUS_METERS;
+        double minLatitude = latitude - Math.toDegrees(angularRadius);
+        double maxLatitude = latitude + Math.toDegrees(angularRadius);
+        if (minLatitude <= -90.0 || maxLatitude >= 90.0) {
+            return of(Math.max(minLatitude, -90.0), -180.0, Math.min(maxLatitude, 90.0), 180.0);
+        }
+        double deltaLongitude = Math.toDegrees(Math.asin(Math.sin(angularRadius) / Math.cos(Math.toRadians(latitude))));
+        double minLongitude = longitude - deltaLongitude;
+        double maxLongitude = longitude + deltaLongitude;
+        if (minLongitude < -180.0) {
+            minLongitude += 360.0;
+        }
+        if (maxLongitude > 180.0) {
+            maxLongitude -= 360.0;
+        }
+        return of(minLatitude, minLongitude, maxLatitude, maxLongitude);
+    }
+
+    static double distanceMeters(double fromLatitude, double fromLongitude, double toLatitude, double toLongitude) {
+        double deltaLatitude = Math.toRadians(toLatitude - fromLatitude);
+        double deltaLongitude = Math.toRadians(toLongitude - fromLongitude);
+        double a = Math.pow(Math.sin(deltaLatitude / 2), 2)
+                + Math.cos(Math.toRadians(fromLatitude)) * Math.cos(Math.toRadians(toLatitude))
+                * Math.pow(Math.sin(deltaLongitude / 2), 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.umanski.eventfinder.event.exception;
+
+import com.umanski.eventfinder.common.exception.NotFoundException;
+
+public class EventNotFoundException extends NotFoundException {
+
+    public EventNotFoundException(String message) {
+        super(message);
+    }
+
+}
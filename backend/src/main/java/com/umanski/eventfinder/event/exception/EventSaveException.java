@@ -0,0 +1,11 @@
+package com.umanski.eventfinder.event.exception;
+
+import com.umanski.eventfinder.common.exception.SaveException;
+
+public class EventSaveException extends SaveException {
+
+    public EventSaveException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.umanski.eventfinder.event.exception;
+
+import com.umanski.eventfinder.common.exception.ValidationException;
+
+public class InvalidCursorException extends ValidationException {
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.umanski.eventfinder.event.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Schema(description = "Data Transfer Object for searching events inside a bounding box")
+public class BoundingBoxSearchDto {
+
+    @NotNull(message = "Minimum latitude parameter is mandatory")
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    @Schema(description = "Southern edge of the box", example = "50.00")
+    private Double minLatitude;
+
+    @NotNull(message = "Minimum longitude parameter is mandatory")
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    @Schema(description = "Western edge of the box, greater than the eastern edge when the box crosses the antimeridian", example = "19.80")
+    private Double minLongitude;
+
+    @NotNull(message = "Maximum latitude parameter is mandatory")
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    @Schema(description = "Northern edge of the box", example = "50.12")
+    private Double maxLatitude;
+
+    @NotNull(message = "Maximum longitude parameter is mandatory")
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    @Schema(description = "Eastern edge of the box", example = "20.10")
+    private Double maxLongitude;
+
+    @Schema(description = "Only events ending at or after this time, defaults to now", example = "2025-06-01T00:00:00Z")
+    private Instant from;
+
+    @Schema(description = "Only events starting at or before this time", example = "2025-07-01T00:00:00Z")
+    private Instant to;
+
+    @Min(value = 1, message = "Limit must be between 1 and 100")
+    @Max(value = 100, message = "Limit must be between 1 and 100")
+    @Schema(description = "Maximum number of returned events", example = "20")
+    private int limit = 20;
+
+}
@@ -0,0 +1,51 @@
+package com.umanski.eventfinder.event.model.dto;
+
+import com.umanski.eventfinder.event.validator.ValidTimeRange;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@Schema(description = "Data Transfer Object for creating a new event")
+@ValidTimeRange(message = "Event end time must be after its start time")
+public class CreateEventDto {
+
+    @NotBlank(message = "Title field is mandatory")
+    @Size(max = 100, message = "Title must not exceed 100 characters")
+    @Schema(description = "Event title", example = "Open air concert")
+    private String title;
+
+    @Size(max = 2000, message = "Description must not exceed 2000 characters")
+    @Schema(description = "Event description", example = "Summer concert in the old town square")
+    private String description;
+
+    @NotNull(message = "Latitude field is mandatory")
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    @Schema(description = "Event location latitude", example = "50.0614")
+    private Double latitude;
+
+    @NotNull(message = "Longitude field is mandatory")
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    @Schema(description = "Event location longitude", example = "19.9366")
+    private Double longitude;
+
+    @NotNull(message = "Start time field is mandatory")
+    @Schema(description = "Event start time", example = "2025-06-21T18:00:00Z")
+    private Instant startTime;
+
+    @NotNull(message = "End time field is mandatory")
+    @Schema(description = "Event end time", example = "2025-06-21T22:00:00Z")
+    private Instant endTime;
+
+    public void trimFields() {
+        this.title = (title != null) ? title.trim() : null;
+        this.description = (description != null) ? description.trim() : null;
+    }
+
+}
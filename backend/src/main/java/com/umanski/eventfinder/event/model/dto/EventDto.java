@@ -0,0 +1,43 @@
+package com.umanski.eventfinder.event.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Data Transfer Object representing an event")
+public class EventDto {
+
+    @Schema(description = "Event identifier", example = "0b9e6a40-3f5c-4c1e-9a55-1e2f1f0c9d11")
+    private UUID id;
+
+    @Schema(description = "Event title", example = "Open air concert")
+    private String title;
+
+    @Schema(description = "Event description", example = "Summer concert in the old town square")
+    private String description;
+
+    @Schema(description = "Event location latitude", example = "50.0614")
+    private double latitude;
+
+    @Schema(description = "Event location longitude", example = "19.9366")
+    private double longitude;
+
+    @Schema(description = "Event start time", example = "2025-06-21T18:00:00Z")
+    private Instant startTime;
+
+    @Schema(description = "Event end time", example = "2025-06-21T22:00:00Z")
+    private Instant endTime;
+
+    @Schema(description = "Identifier of the user organizing the event", example = "4f1c2b7e-8d3a-4e6f-b1c9-2a7d5e8f9b10")
+    private UUID organizerId;
+
+}
@@ -0,0 +1,25 @@
+package com.umanski.eventfinder.event.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Schema(description = "Data Transfer Object for listing upcoming events page by page")
+public class EventListingDto {
+
+    @Schema(description = "Only events starting at or after this time, defaults to now; ignored when a cursor is given", example = "2025-06-01T00:00:00Z")
+    private Instant from;
+
+    @Schema(description = "Opaque cursor returned with the previous page", example = "AAAAAGcH2oAAAAAAC55qQD9cTB6aVR4vHwydEQ")
+    private String cursor;
+
+    @Min(value = 1, message = "Limit must be between 1 and 100")
+    @Max(value = 100, message = "Limit must be between 1 and 100")
+    @Schema(description = "Maximum number of returned events", example = "20")
+    private int limit = 20;
+
+}
@@ -0,0 +1,20 @@
+package com.umanski.eventfinder.event.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "Data Transfer Object representing a page of events")
+public class EventPageDto {
+
+    @Schema(description = "Events on this page, ordered by start time")
+    private List<EventDto> events;
+
+    @Schema(description = "Opaque cursor of the next page, absent on the last page", example = "AAAAAGcH2oAAAAAAC55qQD9cTB6aVR4vHwydEQ")
+    private String nextCursor;
+
+}
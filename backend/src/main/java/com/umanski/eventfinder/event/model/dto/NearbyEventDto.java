@@ -0,0 +1,18 @@
+package com.umanski.eventfinder.event.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "Data Transfer Object representing an event found near a location")
+public class NearbyEventDto {
+
+    @Schema(description = "Found event")
+    private EventDto event;
+
+    @Schema(description = "Great-circle distance from the searched location in meters", example = "1250.4")
+    private double distanceMeters;
+
+}
@@ -0,0 +1,42 @@
+package com.umanski.eventfinder.event.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Schema(description = "Data Transfer Object for searching events within a radius of a location")
+public class NearbyEventsSearchDto {
+
+    @NotNull(message = "Latitude parameter is mandatory")
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    @Schema(description = "Latitude of the searched location", example = "50.0614")
+    private Double latitude;
+
+    @NotNull(message = "Longitude parameter is mandatory")
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    @Schema(description = "Longitude of the searched location", example = "19.9366")
+    private Double longitude;
+
+    @NotNull(message = "Radius parameter is mandatory")
+    @Positive(message = "Radius must be positive")
+    @Max(value = 100_000, message = "Radius must not exceed 100000 meters")
+    @Schema(description = "Search radius in meters", example = "5000")
+    private Integer radius;
+
+    @Schema(description = "Only events ending at or after this time, defaults to now", example = "2025-06-01T00:00:00Z")
+    private Instant from;
+
+    @Schema(description = "Only events starting at or before this time", example = "2025-07-01T00:00:00Z")
+    private Instant to;
+
+    @Min(value = 1, message = "Limit must be between 1 and 100")
+    @Max(value = 100, message = "Limit must be between 1 and 100")
+    @Schema(description = "Maximum number of returned events", example = "20")
+    private int limit = 20;
+
+}
@@ -0,0 +1,42 @@
+package com.umanski.eventfinder.event.model.entity;
+
+import com.umanski.eventfinder.common.model.BaseEntity;
+import com.umanski.eventfinder.user.model.entity.User;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@Entity
+@SuperBuilder
+@AllArgsConstructor
+@RequiredArgsConstructor
+@Table(name = "events", indexes = @Index(name = "idx_events_start_time_id", columnList = "start_time, id"))
+public class Event extends BaseEntity {
+
+    @Column(name = "title", nullable = false, length = 100)
+    private String title;
+
+    @Column(name = "description", length = 2000)
+    private String description;
+
+    @Column(name = "latitude", nullable = false)
+    private double latitude;
+
+    @Column(name = "longitude", nullable = false)
+    private double longitude;
+
+    @Column(name = "start_time", nullable = false)
+    private Instant startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private Instant endTime;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "organizer_id", nullable = false)
+    private User organizer;
+
+}
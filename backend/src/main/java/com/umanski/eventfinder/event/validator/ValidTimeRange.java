@@ -0,0 +1,17 @@
+package com.umanski.eventfinder.event.validator;
+
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.*;
+
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = ValidTimeRangeValidator.class)
+public @interface ValidTimeRange {
+    String message() default "End time must be after start time";
+    Class<?>[] groups() default {};
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,17 @@
+package com.umanski.eventfinder.event.validator;
+
+import com.umanski.eventfinder.event.model.dto.CreateEventDto;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class ValidTimeRangeValidator implements ConstraintValidator<ValidTimeRange, CreateEventDto> {
+
+    @Override
+    public boolean isValid(CreateEventDto dto, ConstraintValidatorContext context) {
+        if (dto.getStartTime() == null || dto.getEndTime() == null) {
+            return true;
+        }
+        return dto.getEndTime().isAfter(dto.getStartTime());
+    }
+
+}
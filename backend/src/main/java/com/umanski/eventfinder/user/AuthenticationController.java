@@ -145,4 +145,32 @@ class AuthenticationController {
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(operationId = "logout-all", summary = "Logout user from all sessions", tags = {"Auth"},
+            description = "Revokes every refresh token issued to the user owning the given refresh token, ending all of their sessions.",
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "All user sessions revoked successfully"),
+                    @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )),
+                    @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )),
+                    @ApiResponse(responseCode = "405", description = "Method Not Allowed", content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )),
+                    @ApiResponse(responseCode = "415", description = "Unsupported Media Type", content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    ))
+            }
+    )
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutAllSessions(@Valid @RequestBody RefreshTokenOperationsDto refreshTokenOperationsDto) {
+        authenticationService.logoutAllSessions(refreshTokenOperationsDto);
+        return ResponseEntity.noContent().build();
+    }
+
 }
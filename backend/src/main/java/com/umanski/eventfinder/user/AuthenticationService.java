@@ -15,4 +15,6 @@ public interface AuthenticationService {
 
     void logout(RefreshTokenOperationsDto refreshTokenOperationsDto);
 
+    void logoutAllSessions(RefreshTokenOperationsDto refreshTokenOperationsDto);
+
 }
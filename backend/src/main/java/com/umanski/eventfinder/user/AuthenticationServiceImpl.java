@@ -1,5 +1,7 @@
 package com.umanski.eventfinder.user;
 
+import com.umanski.eventfinder.common.exception.ServiceUnavailableException;
+import com.umanski.eventfinder.common.util.EmailNormalizer;
 import com.umanski.eventfinder.user.exception.AuthenticationValidationException;
 import com.umanski.eventfinder.user.exception.RegisterValidationException;
 import com.umanski.eventfinder.user.exception.TokenValidationException;
@@ -10,39 +12,41 @@ import com.umanski.eventfinder.user.model.dto.RefreshTokenOperationsDto;
 import com.umanski.eventfinder.user.model.dto.RegisterUserDto;
 import com.umanski.eventfinder.user.model.entity.User;
 import com.umanski.eventfinder.user.model.enums.Role;
+import com.umanski.eventfinder.user.model.security.VerifiedToken;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 class AuthenticationServiceImpl implements AuthenticationService {
 
+    private static final int MAX_EMAIL_LENGTH = 50;
+
     private final JwtService jwtService;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
+    private final TransactionOperations transactionOperations;
 
     @Override
-    @Transactional
     public AuthenticationResponse register(RegisterUserDto registerUserDto) {
         validateRegistrationRequest(registerUserDto);
         User newUser = createUserFromDto(registerUserDto);
-        User savedUser = persistUser(newUser);
-        return generateAuthenticationTokens(savedUser);
+        return transactionOperations.execute(status -> generateAuthenticationTokens(persistUser(newUser)));
     }
 
     @Override
-    @Transactional
     public AuthenticationResponse authenticate(AuthenticateUserDto authenticateUserDto) {
-        authenticateUserCredentials(authenticateUserDto);
-        User user = retrieveUserByEmail(authenticateUserDto.getEmail());
+        User user = authenticateUserCredentials(authenticateUserDto);
         return generateAuthenticationTokens(user);
     }
 
@@ -54,13 +58,26 @@ class AuthenticationServiceImpl implements AuthenticationService {
 
     @Override
     public void logout(RefreshTokenOperationsDto refreshTokenOperationsDto) {
-        validateAndExtractUserFromRefreshToken(refreshTokenOperationsDto.getRefreshToken());
-        performLogout(refreshTokenOperationsDto.getRefreshToken());
+        VerifiedToken refreshToken = jwtService.verifyToken(refreshTokenOperationsDto.getRefreshToken());
+        validateRefreshToken(refreshToken);
+        performLogout(refreshToken);
+    }
+
+    @Override
+    public void logoutAllSessions(RefreshTokenOperationsDto refreshTokenOperationsDto) {
+        User user = validateAndExtractUserFromRefreshToken(refreshTokenOperationsDto.getRefreshToken());
+        int revokedTokens = jwtService.revokeAllTokens(user);
+        log.info("Revoked {} tokens for user with id = {}", revokedTokens, user.getId());
+        SecurityContextHolder.clearContext();
     }
 
     private void validateRegistrationRequest(RegisterUserDto registerUserDto) {
         registerUserDto.trimFields();
-        if (userRepository.existsByEmailIgnoreCase(registerUserDto.getEmail())) {
+        String normalizedEmail = EmailNormalizer.normalize(registerUserDto.getEmail());
+        if (normalizedEmail.length() > MAX_EMAIL_LENGTH) {
+            throw new RegisterValidationException("Email address must not exceed 50 characters");
+        }
+        if (userRepository.existsByNormalizedEmail(normalizedEmail)) {
             throw new RegisterValidationException("User with this email already exists");
         }
     }
@@ -75,7 +92,7 @@ class AuthenticationServiceImpl implements AuthenticationService {
 
     private User persistUser(User user) {
         try {
-            User savedUser = userRepository.save(user);
+            User savedUser = userRepository.saveAndFlush(user);
             log.info("Saved new user in repository with id = {}", savedUser.getId());
             return savedUser;
         } catch (Exception e) {
@@ -84,25 +101,31 @@ class AuthenticationServiceImpl implements AuthenticationService {
         }
     }
 
-    private void authenticateUserCredentials(AuthenticateUserDto authenticateUserDto) {
+    private User authenticateUserCredentials(AuthenticateUserDto authenticateUserDto) {
+        Authentication authentication;
         try {
-            authenticationManager.authenticate(
+            authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
                             authenticateUserDto.getEmail(),
                             authenticateUserDto.getPassword()
                     )
             );
+        } catch (ServiceUnavailableException | InternalAuthenticationServiceException e) {
+            throw e;
         } catch (Exception e) {
             throw new AuthenticationValidationException("Invalid credentials", e);
         }
+        if (!(authentication.getPrincipal() instanceof User user)) {
+            throw new AuthenticationValidationException("User not found");
+        }
+        return user;
     }
 
-    private User retrieveUserByEmail(String email) {
-        return userRepository.findUserByEmail(email)
-                .orElseThrow(() -> new AuthenticationValidationException("User not found"));
+    private User validateAndExtractUserFromRefreshToken(String refreshToken) {
+        return validateRefreshToken(jwtService.verifyToken(refreshToken));
     }
 
-    private User validateAndExtractUserFromRefreshToken(String refreshToken) {
+    private User validateRefreshToken(VerifiedToken refreshToken) {
         User user = (User) jwtService.extractUser(refreshToken);
         if (!jwtService.isRefreshTokenValid(refreshToken, user)) {
             throw new TokenValidationException("Invalid refresh token");
@@ -116,7 +139,7 @@ class AuthenticationServiceImpl implements AuthenticationService {
         return new AuthenticationResponse(accessToken, refreshToken);
     }
 
-    private void performLogout(String refreshToken) {
+    private void performLogout(VerifiedToken refreshToken) {
         jwtService.revokeToken(refreshToken);
         SecurityContextHolder.clearContext();
     }
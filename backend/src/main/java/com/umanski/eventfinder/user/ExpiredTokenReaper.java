@@ -0,0 +1,80 @@
+package com.umanski.eventfinder.user;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Slf4j
+@Component
+class ExpiredTokenReaper {
+
+    private final TokenRepository tokenRepository;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration pauseBetweenBatches;
+    private final Counter reclaimedTokens;
+    private final DistributionSummary reclaimedTokensPerRun;
+    private final Timer runTimer;
+
+    ExpiredTokenReaper(TokenRepository tokenRepository,
+                       MeterRegistry meterRegistry,
+                       @Value("${application.security.jwt.reaper.batch-size}") int batchSize,
+                       @Value("${application.security.jwt.reaper.max-batches-per-run}") int maxBatchesPerRun,
+                       @Value("${application.security.jwt.reaper.pause-between-batches}") Duration pauseBetweenBatches) {
+        this.tokenRepository = tokenRepository;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.pauseBetweenBatches = pauseBetweenBatches;
+        this.reclaimedTokens = Counter.builder("tokens.reaper.reclaimed")
+                .description("Expired tokens deleted by the reaper")
+                .register(meterRegistry);
+        this.reclaimedTokensPerRun = DistributionSummary.builder("tokens.reaper.reclaimed.per.run")
+                .description("Expired tokens deleted in a single reaper run")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("tokens.reaper.run")
+                .description("Duration of a reaper run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${application.security.jwt.reaper.interval}",
+            initialDelayString = "${application.security.jwt.reaper.interval}")
+    void reapExpiredTokens() {
+        int reclaimed = runTimer.record(() -> deleteExpiredTokens(Instant.now()));
+        reclaimedTokensPerRun.record(reclaimed);
+        if (reclaimed > 0) {
+            log.info("Reaper deleted {} expired tokens", reclaimed);
+        }
+    }
+
+    private int deleteExpiredTokens(Instant now) {
+        int reclaimed = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int deleted = tokenRepository.deleteExpiredTokens(now, batchSize);
+            reclaimed += deleted;
+            reclaimedTokens.increment(deleted);
+            if (deleted < batchSize || !pause()) {
+                break;
+            }
+        }
+        return reclaimed;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseBetweenBatches);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.umanski.eventfinder.user;
 
 import com.umanski.eventfinder.user.model.entity.User;
+import com.umanski.eventfinder.user.model.security.VerifiedToken;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -8,18 +9,22 @@ import java.util.Optional;
 
 public interface JwtService {
 
-    UserDetails extractUser(String token);
+    VerifiedToken verifyToken(String token);
+
+    UserDetails extractUser(VerifiedToken token);
 
     String generateAccessToken(User user);
 
     String generateRefreshToken(User user);
 
-    Optional<String> extractAndValidateAccessToken(HttpServletRequest request);
+    Optional<VerifiedToken> extractAndValidateAccessToken(HttpServletRequest request);
+
+    boolean isRefreshTokenValid(VerifiedToken refreshToken, UserDetails userDetails);
 
-    boolean isRefreshTokenValid(String refreshToken, UserDetails userDetails);
+    void authenticateUser(VerifiedToken accessToken, HttpServletRequest request);
 
-    void authenticateUser(String jwt, HttpServletRequest request);
+    int revokeAllTokens(User user);
 
-    void revokeToken(String token);
+    void revokeToken(VerifiedToken token);
 
 }
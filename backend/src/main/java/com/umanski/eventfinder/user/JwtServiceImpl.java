@@ -1,35 +1,51 @@
 package com.umanski.eventfinder.user;
 
+import com.umanski.eventfinder.common.util.EmailNormalizer;
+import com.umanski.eventfinder.common.util.TokenDigest;
+import com.umanski.eventfinder.config.ReadYourWritesWindow;
 import com.umanski.eventfinder.user.model.entity.Token;
 import com.umanski.eventfinder.user.model.entity.User;
-import com.umanski.eventfinder.user.model.enums.TokenType;
+import com.umanski.eventfinder.user.model.enums.Role;
+import com.umanski.eventfinder.user.model.security.UserPrincipal;
+import com.umanski.eventfinder.user.model.security.VerifiedToken;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.security.Key;
+import java.time.Instant;
 import java.util.*;
 import java.util.function.Function;
-import java.util.function.Predicate;
 
 @Service
 @RequiredArgsConstructor
-class JwtServiceImpl implements JwtService {
+class JwtServiceImpl implements JwtService, SmartInitializingSingleton {
 
     private static final String ACCESS_TOKEN = "access_token";
     private static final String REFRESH_TOKEN = "refresh_token";
+    private static final String TYPE_CLAIM = "type";
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
 
     @Value("${application.security.jwt.secret-key}")
     private String secretKey;
@@ -37,146 +53,239 @@ class JwtServiceImpl implements JwtService {
     private long jwtAccessTokenExpiration;
     @Value("${application.security.jwt.refresh-token.expiration}")
     private long jwtRefreshTokenExpiration;
+    @Value("${application.security.jwt.stateless-authentication:true}")
+    private boolean statelessAuthentication;
 
     private final TokenRepository tokenRepository;
     private final UserService userService;
+    private final TokenRevocationIndex revocationIndex;
+    private final RefreshTokenWriteBehind refreshTokenWriteBehind;
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final TransactionOperations transactionOperations;
+    private final MeterRegistry meterRegistry;
+
+    private Key signInKey;
+    private JwtParser jwtParser;
+    private Timer accessTokenBuildTimer;
+    private Timer refreshTokenBuildTimer;
+    private Timer tokenVerifyTimer;
+    private Timer userLookupTimer;
+    private Timer tokenLookupTimer;
+    private Timer revokeAllTimer;
+    private Timer tokenSaveTimer;
+
+    @PostConstruct
+    void init() {
+        signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+        accessTokenBuildTimer = tokenBuildTimer(ACCESS_TOKEN);
+        refreshTokenBuildTimer = tokenBuildTimer(REFRESH_TOKEN);
+        tokenVerifyTimer = Timer.builder("auth.token.verify")
+                .description("Parsing and signature verification of a JWT")
+                .register(meterRegistry);
+        userLookupTimer = Timer.builder("auth.user.lookup")
+                .description("User lookup by token subject")
+                .register(meterRegistry);
+        tokenLookupTimer = Timer.builder("auth.token.lookup")
+                .description("Lookup of persisted tokens")
+                .register(meterRegistry);
+        revokeAllTimer = Timer.builder("auth.tokens.revoke.all")
+                .description("Revocation of all tokens of a user")
+                .register(meterRegistry);
+        tokenSaveTimer = Timer.builder("auth.token.save")
+                .description("Persisting an issued refresh token")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Map<String, Instant> revokedTokens = new HashMap<>();
+        tokenRepository.findAllRevokedTokensExpiringAfter(Instant.now()).stream()
+                .filter(revokedToken -> revokedToken.getJti() != null)
+                .forEach(revokedToken -> revokedTokens.put(revokedToken.getJti(), revokedToken.getExpirationDate()));
+        revocationIndex.rebuild(revokedTokens);
+    }
 
     @Override
-    public UserDetails extractUser(String token) {
+    public VerifiedToken verifyToken(String token) {
         try {
-            String username = extractUsername(token);
-            return userService.findUserByEmail(username)
-                    .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-        } catch (Exception e) {
-            throw new UsernameNotFoundException(e.getMessage());
+            return parseToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BadCredentialsException(e.getMessage(), e);
         }
     }
 
+    @Override
+    public UserDetails extractUser(VerifiedToken token) {
+        return userLookupTimer.record(() -> userService.findUserByEmail(token.getSubject()))
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+    }
+
     @Override
     public String generateAccessToken(User user) {
         Date expirationDate = new Date(System.currentTimeMillis() + jwtAccessTokenExpiration);
-        return buildToken(user.getUsername(), ACCESS_TOKEN, expirationDate);
+        return accessTokenBuildTimer.record(() -> buildToken(user, ACCESS_TOKEN, UUID.randomUUID().toString(), expirationDate));
     }
 
     @Override
     public String generateRefreshToken(User user) {
-        revokeAllUserTokens(user);
         Date expirationDate = new Date(System.currentTimeMillis() + jwtRefreshTokenExpiration);
-        String token = buildToken(user.getUsername(), REFRESH_TOKEN, expirationDate);
-        saveUserToken(user, token, expirationDate);
+        String jti = UUID.randomUUID().toString();
+        String token = refreshTokenBuildTimer.record(() -> buildToken(user, REFRESH_TOKEN, jti, expirationDate));
+        if (refreshTokenWriteBehind.isEnabled()) {
+            refreshTokenWriteBehind.ensureCapacity();
+            List<String> revokedJtis = revokeAllTimer.record(() -> revokeLiveTokens(user));
+            refreshTokenWriteBehind.enqueue(user, token, jti, expirationDate.toInstant(), revokedJtis);
+            return token;
+        }
+        transactionOperations.executeWithoutResult(status -> {
+            revokeAllTokens(user);
+            tokenSaveTimer.record(() -> saveUserToken(user, token, jti, expirationDate));
+        });
         return token;
     }
 
     @Override
-    public Optional<String> extractAndValidateAccessToken(HttpServletRequest request) {
-        return extractAndValidateToken(request, this::isAccessToken);
+    public Optional<VerifiedToken> extractAndValidateAccessToken(HttpServletRequest request) {
+        try {
+            return Optional.ofNullable(extractJwtFromHeader(request))
+                    .map(this::parseToken)
+                    .filter(token -> ACCESS_TOKEN.equals(token.getType()));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
     }
 
     @Override
-    public boolean isRefreshTokenValid(String refreshToken, UserDetails userDetails) {
-        return isRefreshToken(refreshToken) && isTokenValid(refreshToken, userDetails);
+    public boolean isRefreshTokenValid(VerifiedToken refreshToken, UserDetails userDetails) {
+        return REFRESH_TOKEN.equals(refreshToken.getType())
+                && !isTokenRevoked(refreshToken)
+                && refreshToken.getSubject().equals(userDetails.getUsername());
     }
 
     @Override
-    public void authenticateUser(String jwt, HttpServletRequest request) {
-        UserDetails userDetails = extractUser(jwt);
+    public void authenticateUser(VerifiedToken accessToken, HttpServletRequest request) {
         if (SecurityContextHolder.getContext().getAuthentication() == null) {
-            setAuthenticationContext(userDetails, request);
+            resolvePrincipal(accessToken).ifPresent(principal -> setAuthenticationContext(principal, request));
         }
     }
 
     @Override
-    public void revokeToken(String token) {
-        tokenRepository.findByToken(token).ifPresent(storedToken -> {
-            storedToken.setRevoked(true);
-            tokenRepository.save(storedToken);
+    public int revokeAllTokens(User user) {
+        return transactionOperations.execute(status -> {
+            readYourWritesWindow.recordWrite(EmailNormalizer.normalize(user.getEmail()));
+            return revokeAllTimer.record(() -> {
+                revokeLiveTokens(user);
+                return tokenRepository.revokeAllByUser(user.getId(), Instant.now());
+            });
         });
     }
 
-    private void setAuthenticationContext(UserDetails userDetails, HttpServletRequest request) {
-        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                userDetails, null, userDetails.getAuthorities()
-        );
-        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-        SecurityContextHolder.getContext().setAuthentication(authToken);
+    @Override
+    public void revokeToken(VerifiedToken token) {
+        revocationIndex.revoke(token.getJti(), token.getExpiration());
+        readYourWritesWindow.recordWrite(EmailNormalizer.normalize(token.getSubject()));
+        tokenRepository.revokeByJti(token.getJti());
     }
 
-    private boolean isTokenExpired(String token) {
-        return tokenRepository.findByToken(token)
-                .map(storedToken -> extractExpiration(token).before(new Date()) || storedToken.isRevoked())
-                .orElseGet(() -> extractExpiration(token).before(new Date()));
+    private List<String> revokeLiveTokens(User user) {
+        List<String> revokedJtis = new ArrayList<>();
+        refreshTokenWriteBehind.pendingTokens(user.getId()).forEach(pendingToken -> {
+            revocationIndex.revoke(pendingToken.getJti(), pendingToken.getExpirationDate());
+            revokedJtis.add(pendingToken.getJti());
+        });
+        tokenLookupTimer.record(() -> tokenRepository.findAllLiveTokensByUser(user.getId(), Instant.now())).stream()
+                .filter(liveToken -> liveToken.getJti() != null && !revokedJtis.contains(liveToken.getJti()))
+                .forEach(liveToken -> {
+                    revocationIndex.revoke(liveToken.getJti(), liveToken.getExpirationDate());
+                    revokedJtis.add(liveToken.getJti());
+                });
+        return revokedJtis;
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private Optional<UserPrincipal> resolvePrincipal(VerifiedToken accessToken) {
+        if (statelessAuthentication && accessToken.getUserId() != null && accessToken.getRole() != null) {
+            return Optional.of(new UserPrincipal(accessToken.getUserId(), accessToken.getSubject(), accessToken.getRole()));
+        }
+        return userLookupTimer.record(() -> userService.findPrincipalByEmail(accessToken.getSubject()));
+    }
+
+    private void setAuthenticationContext(UserPrincipal principal, HttpServletRequest request) {
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                principal, null, principal.getAuthorities()
+        );
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
     }
 
-    private void revokeAllUserTokens(User user) {
-        List<Token> validUserTokens = tokenRepository.findAllValidTokenByUser(user.getId());
-        validUserTokens.forEach(token -> token.setRevoked(true));
-        tokenRepository.saveAll(validUserTokens);
+    private boolean isTokenRevoked(VerifiedToken token) {
+        if (token.getJti() == null || revocationIndex.isRevoked(token.getJti())) {
+            return true;
+        }
+        if (tokenLookupTimer.record(() -> tokenRepository.existsByJtiAndRevokedTrue(token.getJti()))) {
+            revocationIndex.revoke(token.getJti(), token.getExpiration());
+            return true;
+        }
+        return false;
     }
 
-    private void saveUserToken(User user, String jwtToken, Date expirationDate) {
+    private void saveUserToken(User user, String jwtToken, String jti, Date expirationDate) {
         Token token = Token.builder()
                 .user(user)
-                .token(jwtToken)
+                .tokenHash(TokenDigest.sha256(jwtToken))
+                .jti(jti)
                 .expirationDate(expirationDate.toInstant())
                 .build();
         tokenRepository.save(token);
     }
 
-    private String buildToken(String username, String type, Date expirationDate) {
+    private String buildToken(User user, String type, String jti, Date expirationDate) {
         return Jwts.builder()
-                .setClaims(createClaims(type))
-                .setSubject(username)
+                .setClaims(createClaims(user, type, jti))
+                .setSubject(user.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(expirationDate)
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private Map<String, Object> createClaims(String type) {
+    private Map<String, Object> createClaims(User user, String type, String jti) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("type", type);
-        claims.put("jti", UUID.randomUUID().toString());
+        claims.put(TYPE_CLAIM, type);
+        claims.put("jti", jti);
+        claims.put(USER_ID_CLAIM, user.getId().toString());
+        claims.put(ROLE_CLAIM, user.getRole().name());
         return claims;
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    private Timer tokenBuildTimer(String type) {
+        return Timer.builder("auth.token.build")
+                .description("Building and signing a JWT")
+                .tag("type", type)
+                .register(meterRegistry);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    private Optional<String> extractAndValidateToken(HttpServletRequest request, Predicate<String> tokenTypeChecker) {
-        try {
-            return Optional.ofNullable(extractJwtFromHeader(request))
-                    .filter(tokenTypeChecker)
-                    .flatMap(jwt -> {
-                        UserDetails userDetails = extractUser(jwt);
-                        return isTokenValid(jwt, userDetails) ? Optional.of(jwt) : Optional.empty();
-                    });
-        } catch (Exception e) {
-            return Optional.empty();
-        }
+    private VerifiedToken parseToken(String token) {
+        Claims claims = tokenVerifyTimer.record(() -> jwtParser.parseClaimsJws(token).getBody());
+        return VerifiedToken.builder()
+                .token(token)
+                .subject(claims.getSubject())
+                .userId(parseClaim(claims.get(USER_ID_CLAIM, String.class), UUID::fromString))
+                .role(parseClaim(claims.get(ROLE_CLAIM, String.class), Role::valueOf))
+                .type(claims.get(TYPE_CLAIM, String.class))
+                .jti(claims.getId())
+                .expiration(toInstant(claims.getExpiration()))
+                .build();
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private <T> T parseClaim(String value, Function<String, T> parser) {
+        return value != null ? parser.apply(value) : null;
     }
 
-    private String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+    private Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
     }
 
     private String extractJwtFromHeader(HttpServletRequest request) {
@@ -184,16 +293,4 @@ class JwtServiceImpl implements JwtService {
         return (authHeader != null && authHeader.startsWith("Bearer")) ? authHeader.substring(7) : null;
     }
 
-    private boolean isAccessToken(String token) {
-        return ACCESS_TOKEN.equals(extractClaim(token, claims -> claims.get("type")));
-    }
-
-    private boolean isRefreshToken(String token) {
-        return REFRESH_TOKEN.equals(extractClaim(token, claims -> claims.get("type")));
-    }
-
-    private boolean isTokenValid(String token, UserDetails userDetails) {
-        return !isTokenExpired(token) && extractUsername(token).equals(userDetails.getUsername());
-    }
-
 }
@@ -0,0 +1,301 @@
+package com.umanski.eventfinder.user;
+
+import com.umanski.eventfinder.common.exception.ServiceUnavailableException;
+import com.umanski.eventfinder.common.util.TokenDigest;
+import com.umanski.eventfinder.user.model.entity.Token;
+import com.umanski.eventfinder.user.model.entity.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+class RefreshTokenWriteBehind {
+
+    private static final String QUEUE_FULL_MESSAGE = "Too many logins in progress, please retry later";
+
+    private final TokenRepository tokenRepository;
+    private final TokenRevocationIndex revocationIndex;
+    private final TransactionOperations transactionOperations;
+    private final boolean enabled;
+    private final int batchSize;
+    private final boolean flushOnShutdown;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration flushInterval;
+    private final Clock clock;
+    private final BlockingQueue<PendingRefreshToken> queue;
+    private final Map<UUID, Set<PendingRefreshToken>> pendingByUser = new ConcurrentHashMap<>();
+    private final Lock writerLock = new ReentrantLock();
+    private final Timer flushTimer;
+    private final DistributionSummary flushedBatchSize;
+    private final Counter failedFlushes;
+    private final Counter droppedTokens;
+
+    private ScheduledExecutorService flushScheduler;
+    private List<PendingRefreshToken> failedBatch = List.of();
+    private int failedAttempts;
+    private volatile Instant nextAttemptAt = Instant.EPOCH;
+
+    @Autowired
+    RefreshTokenWriteBehind(TokenRepository tokenRepository,
+                            TokenRevocationIndex revocationIndex,
+                            TransactionOperations transactionOperations,
+                            MeterRegistry meterRegistry,
+                            @Value("${application.security.jwt.refresh-token.write-behind.enabled}") boolean enabled,
+                            @Value("${application.security.jwt.refresh-token.write-behind.batch-size}") int batchSize,
+                            @Value("${application.security.jwt.refresh-token.write-behind.queue-capacity}") int queueCapacity,
+                            @Value("${application.security.jwt.refresh-token.write-behind.flush-on-shutdown}") boolean flushOnShutdown,
+                            @Value("${application.security.jwt.refresh-token.write-behind.max-attempts}") int maxAttempts,
+                            @Value("${application.security.jwt.refresh-token.write-behind.retry-backoff}") Duration retryBackoff,
+                            @Value("${application.security.jwt.refresh-token.write-behind.flush-interval}") Duration flushInterval) {
+        this(tokenRepository, revocationIndex, transactionOperations, meterRegistry, enabled, batchSize, queueCapacity,
+                flushOnShutdown, maxAttempts, retryBackoff, flushInterval, Clock.systemUTC());
+    }
+
+    RefreshTokenWriteBehind(TokenRepository tokenRepository,
+                            TokenRevocationIndex revocationIndex,
+                            TransactionOperations transactionOperations,
+                            MeterRegistry meterRegistry,
+                            boolean enabled,
+                            int batchSize,
+                            int queueCapacity,
+                            boolean flushOnShutdown,
+                            int maxAttempts,
+                            Duration retryBackoff,
+                            Duration flushInterval,
+                            Clock clock) {
+        this.tokenRepository = tokenRepository;
+        this.revocationIndex = revocationIndex;
+        this.transactionOperations = transactionOperations;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushOnShutdown = flushOnShutdown;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.flushInterval = flushInterval;
+        this.clock = clock;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.flushTimer = Timer.builder("auth.token.write.behind.flush")
+                .description("Writing one batch of queued refresh tokens")
+                .register(meterRegistry);
+        this.flushedBatchSize = DistributionSummary.builder("auth.token.write.behind.batch.size")
+                .description("Refresh tokens written per batch")
+                .register(meterRegistry);
+        this.failedFlushes = Counter.builder("auth.token.write.behind.failures")
+                .description("Batches that could not be written")
+                .register(meterRegistry);
+        this.droppedTokens = Counter.builder("auth.token.write.behind.dropped")
+                .description("Refresh tokens given up on after the last failed attempt")
+                .register(meterRegistry);
+        Gauge.builder("auth.token.write.behind.pending", pendingByUser, pending -> pending.values().stream().mapToInt(Set::size).sum())
+                .description("Issued refresh tokens not yet written to the database")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("token-write-behind")
+                .daemon()
+                .factory());
+        flushScheduler.scheduleWithFixedDelay(this::scheduledFlush, flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    void ensureCapacity() {
+        if (queue.remainingCapacity() == 0) {
+            throw queueFull();
+        }
+    }
+
+    void enqueue(User user, String token, String jti, Instant expirationDate, List<String> revokedJtis) {
+        PendingRefreshToken pendingToken = new PendingRefreshToken(user, token, jti, expirationDate, List.copyOf(revokedJtis));
+        pendingByUser.compute(user.getId(), (ignored, pendingTokens) -> {
+            Set<PendingRefreshToken> tokens = pendingTokens != null ? pendingTokens : ConcurrentHashMap.newKeySet();
+            tokens.add(pendingToken);
+            return tokens;
+        });
+        if (!queue.offer(pendingToken)) {
+            removePending(pendingToken);
+            throw queueFull();
+        }
+    }
+
+    List<PendingRefreshToken> pendingTokens(UUID userId) {
+        return List.copyOf(pendingByUser.getOrDefault(userId, Set.of()));
+    }
+
+    void flush() {
+        flush(false);
+    }
+
+    private void flush(boolean finalAttempt) {
+        writerLock.lock();
+        try {
+            if (!finalAttempt && clock.instant().isBefore(nextAttemptAt)) {
+                return;
+            }
+            if (!failedBatch.isEmpty()) {
+                writeOrRetryLater(failedBatch);
+            }
+            List<PendingRefreshToken> batch = new ArrayList<>(batchSize);
+            while (failedBatch.isEmpty() && queue.drainTo(batch, batchSize) > 0) {
+                writeOrRetryLater(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        } finally {
+            writerLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (flushScheduler != null) {
+            flushScheduler.shutdown();
+        }
+        if (flushOnShutdown) {
+            flush(true);
+        }
+        int unwritten = queue.size() + failedBatch.size();
+        if (unwritten > 0) {
+            log.warn("Shutting down with {} refresh tokens not written to the database", unwritten);
+        }
+    }
+
+    private void scheduledFlush() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Unexpected failure while flushing queued refresh tokens", e);
+        }
+    }
+
+    private void writeOrRetryLater(List<PendingRefreshToken> batch) {
+        try {
+            write(batch);
+        } catch (RuntimeException e) {
+            failedFlushes.increment();
+            if (++failedAttempts < maxAttempts) {
+                Duration backoff = retryBackoff.multipliedBy(1L << (failedAttempts - 1));
+                failedBatch = batch;
+                nextAttemptAt = clock.instant().plus(backoff);
+                log.error("Failed to write {} refresh tokens, retrying in {}", batch.size(), backoff, e);
+                return;
+            }
+            droppedTokens.increment(batch.size());
+            log.error("Failed to write {} refresh tokens {} times, dropping and revoking them", batch.size(), failedAttempts, e);
+            batch.forEach(pendingToken -> revocationIndex.revoke(pendingToken.getJti(), pendingToken.getExpirationDate()));
+            finishBatch(batch);
+            return;
+        }
+        finishBatch(batch);
+        revokeTokensRevokedDuringWrite(batch);
+    }
+
+    private void finishBatch(List<PendingRefreshToken> batch) {
+        failedBatch = List.of();
+        failedAttempts = 0;
+        nextAttemptAt = Instant.EPOCH;
+        batch.forEach(this::removePending);
+    }
+
+    private void write(List<PendingRefreshToken> batch) {
+        flushTimer.record(() -> transactionOperations.executeWithoutResult(status -> {
+            List<String> revokedJtis = batch.stream()
+                    .flatMap(pendingToken -> pendingToken.getRevokedJtis().stream())
+                    .toList();
+            if (!revokedJtis.isEmpty()) {
+                tokenRepository.revokeAllByJti(revokedJtis);
+            }
+            tokenRepository.saveAll(batch.stream().map(this::toToken).toList());
+        }));
+        flushedBatchSize.record(batch.size());
+    }
+
+    private void revokeTokensRevokedDuringWrite(List<PendingRefreshToken> batch) {
+        List<String> revokedJtis = batch.stream()
+                .filter(pendingToken -> !pendingToken.isWrittenAsRevoked() && revocationIndex.isRevoked(pendingToken.getJti()))
+                .map(PendingRefreshToken::getJti)
+                .toList();
+        if (revokedJtis.isEmpty()) {
+            return;
+        }
+        try {
+            transactionOperations.executeWithoutResult(status -> tokenRepository.revokeAllByJti(revokedJtis));
+        } catch (RuntimeException e) {
+            log.error("Failed to revoke {} refresh tokens revoked while they were written", revokedJtis.size(), e);
+        }
+    }
+
+    private ServiceUnavailableException queueFull() {
+        Duration retryAfter = Duration.between(clock.instant(), nextAttemptAt);
+        return new ServiceUnavailableException(QUEUE_FULL_MESSAGE, retryAfter.compareTo(flushInterval) > 0 ? retryAfter : flushInterval);
+    }
+
+    private Token toToken(PendingRefreshToken pendingToken) {
+        pendingToken.writtenAsRevoked = revocationIndex.isRevoked(pendingToken.getJti());
+        return Token.builder()
+                .user(pendingToken.getUser())
+                .tokenHash(TokenDigest.sha256(pendingToken.getToken()))
+                .jti(pendingToken.getJti())
+                .expirationDate(pendingToken.getExpirationDate())
+                .revoked(pendingToken.writtenAsRevoked)
+                .build();
+    }
+
+    private void removePending(PendingRefreshToken pendingToken) {
+        pendingByUser.computeIfPresent(pendingToken.getUser().getId(), (ignored, pendingTokens) -> {
+            pendingTokens.remove(pendingToken);
+            return pendingTokens.isEmpty() ? null : pendingTokens;
+        });
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    static class PendingRefreshToken {
+
+        private final User user;
+        private final String token;
+        private final String jti;
+        private final Instant expirationDate;
+        private final List<String> revokedJtis;
+        private boolean writtenAsRevoked;
+
+    }
+
+}
@@ -2,21 +2,70 @@ package com.umanski.eventfinder.user;
 
 import com.umanski.eventfinder.user.model.entity.Token;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 interface TokenRepository extends JpaRepository<Token, UUID> {
 
     @Query(value = """
-            select t from Token t inner join User u\s
-            on t.user.id = u.id\s
-            where u.id = :id and (t.revoked = false)\s
+            select t.jti as jti, t.expirationDate as expirationDate from Token t\s
+            where t.user.id = :userId and t.revoked = false and t.expirationDate > :now\s
             """)
-    List<Token> findAllValidTokenByUser(UUID id);
+    List<TokenRevocationView> findAllLiveTokensByUser(UUID userId, Instant now);
 
-    Optional<Token> findByToken(String token);
+    @Modifying
+    @Query(value = """
+            update Token t set t.revoked = true\s
+            where t.user.id = :userId and t.revoked = false and t.expirationDate > :now\s
+            """)
+    int revokeAllByUser(UUID userId, Instant now);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            update Token t set t.revoked = true\s
+            where t.jti = :jti and t.revoked = false\s
+            """)
+    int revokeByJti(String jti);
+
+    @Modifying
+    @Query(value = """
+            update Token t set t.revoked = true\s
+            where t.jti in :jtis and t.revoked = false\s
+            """)
+    int revokeAllByJti(Collection<String> jtis);
+
+    // Not read-only so that it runs on the primary, a revocation made by another instance may not have reached the replica
+    @Transactional
+    boolean existsByJtiAndRevokedTrue(String jti);
+
+    @Modifying
+    @Transactional
+    @Query(nativeQuery = true, value = """
+            delete from tokens where id in (\s
+            select id from tokens where expiration_date < :now\s
+            order by expiration_date limit :batchSize for update skip locked)\s
+            """)
+    int deleteExpiredTokens(Instant now, int batchSize);
+
+    @Query(value = """
+            select t.jti as jti, t.expirationDate as expirationDate from Token t\s
+            where t.revoked = true and t.expirationDate > :now\s
+            """)
+    List<TokenRevocationView> findAllRevokedTokensExpiringAfter(Instant now);
+
+    interface TokenRevocationView {
+
+        String getJti();
+
+        Instant getExpirationDate();
+
+    }
 
 }
@@ -0,0 +1,167 @@
+package com.umanski.eventfinder.user;
+
+import com.umanski.eventfinder.common.cache.CacheInvalidationBus;
+import com.umanski.eventfinder.common.cache.SharedCacheStore;
+import com.umanski.eventfinder.common.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+class TokenRevocationIndex {
+
+    private static final String SHARED_KEY_PREFIX = "revoked:";
+    private static final String INVALIDATION_CHANNEL = "revocations";
+
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+    private final Counter filteredLookups;
+    private final Counter revokedLookups;
+    private final Counter falsePositiveLookups;
+    private final SharedCacheStore sharedStore;
+    private final CacheInvalidationBus invalidationBus;
+
+    private volatile BloomFilter bloomFilter;
+
+    @Autowired
+    TokenRevocationIndex(@Value("${application.security.jwt.revocation.expected-insertions}") long expectedInsertions,
+                         @Value("${application.security.jwt.revocation.false-positive-probability}") double falsePositiveProbability,
+                         ObjectProvider<SharedCacheStore> sharedStore,
+                         ObjectProvider<CacheInvalidationBus> invalidationBus,
+                         MeterRegistry meterRegistry) {
+        this(expectedInsertions, falsePositiveProbability, sharedStore.getIfAvailable(), invalidationBus.getIfAvailable(), meterRegistry);
+    }
+
+    TokenRevocationIndex(long expectedInsertions, double falsePositiveProbability, MeterRegistry meterRegistry) {
+        this(expectedInsertions, falsePositiveProbability, (SharedCacheStore) null, null, meterRegistry);
+    }
+
+    TokenRevocationIndex(long expectedInsertions, double falsePositiveProbability, SharedCacheStore sharedStore,
+                         CacheInvalidationBus invalidationBus, MeterRegistry meterRegistry) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveProbability);
+        this.filteredLookups = lookupCounter("filtered", meterRegistry);
+        this.revokedLookups = lookupCounter("revoked", meterRegistry);
+        this.falsePositiveLookups = lookupCounter("false-positive", meterRegistry);
+        this.sharedStore = sharedStore;
+        this.invalidationBus = invalidationBus;
+        if (invalidationBus != null) {
+            invalidationBus.subscribe(INVALIDATION_CHANNEL, jti -> {
+                if (jti != null) {
+                    sharedStore.get(SHARED_KEY_PREFIX + jti).ifPresent(expiration -> revokeLocally(jti, parseExpiration(expiration)));
+                }
+            });
+        }
+        Gauge.builder("auth.revocation.index.size", revokedTokens, Map::size)
+                .description("Revoked, not yet expired tokens held in memory")
+                .register(meterRegistry);
+    }
+
+    boolean isRevoked(String jti) {
+        boolean mightBeRevoked = bloomFilter.mightContain(jti);
+        if (mightBeRevoked && revokedTokens.containsKey(jti)) {
+            revokedLookups.increment();
+            return true;
+        }
+        (mightBeRevoked ? falsePositiveLookups : filteredLookups).increment();
+        return false;
+    }
+
+    void revoke(String jti, Instant expiresAt) {
+        Instant now = Instant.now();
+        if (!expiresAt.isAfter(now)) {
+            return;
+        }
+        revokeLocally(jti, expiresAt);
+        if (sharedStore != null) {
+            byte[] expiration = Long.toString(expiresAt.toEpochMilli()).getBytes(StandardCharsets.UTF_8);
+            sharedStore.put(SHARED_KEY_PREFIX + jti, expiration, Duration.between(now, expiresAt));
+            invalidationBus.publish(INVALIDATION_CHANNEL, jti);
+        }
+    }
+
+    void rebuild(Map<String, Instant> tokens) {
+        rebuildLock.writeLock().lock();
+        try {
+            revokedTokens.clear();
+            revokedTokens.putAll(tokens);
+            revokedTokens.putAll(readSharedRevocations());
+            purge();
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+        log.info("Rebuilt token revocation index with {} revoked tokens", revokedTokens.size());
+    }
+
+    @Scheduled(fixedDelayString = "${application.security.jwt.revocation.purge-interval}")
+    void purgeExpired() {
+        rebuildLock.writeLock().lock();
+        try {
+            purge();
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        return revokedTokens.size();
+    }
+
+    private static Counter lookupCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("auth.revocation.lookups")
+                .description("Revocation checks by outcome, filtered ones were answered by the bloom filter alone")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Map<String, Instant> readSharedRevocations() {
+        if (sharedStore == null) {
+            return Map.of();
+        }
+        return sharedStore.getByPrefix(SHARED_KEY_PREFIX).entrySet().stream()
+                .collect(Collectors.toMap(entry -> entry.getKey().substring(SHARED_KEY_PREFIX.length()),
+                        entry -> parseExpiration(entry.getValue())));
+    }
+
+    private static Instant parseExpiration(byte[] expiration) {
+        return Instant.ofEpochMilli(Long.parseLong(new String(expiration, StandardCharsets.UTF_8)));
+    }
+
+    private void revokeLocally(String jti, Instant expiresAt) {
+        rebuildLock.readLock().lock();
+        try {
+            revokedTokens.put(jti, expiresAt);
+            bloomFilter.put(jti);
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    private void purge() {
+        Instant now = Instant.now();
+        revokedTokens.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        BloomFilter rebuiltFilter = new BloomFilter(Math.max(expectedInsertions, 2L * revokedTokens.size()), falsePositiveProbability);
+        revokedTokens.keySet().forEach(rebuiltFilter::put);
+        bloomFilter = rebuiltFilter;
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.umanski.eventfinder.user;
+
+import com.umanski.eventfinder.user.model.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static com.umanski.eventfinder.config.CacheConfig.PRINCIPALS_CACHE;
+import static com.umanski.eventfinder.config.CacheConfig.USERS_CACHE;
+
+@Component
+@RequiredArgsConstructor
+public class UserCacheEvictionListener {
+
+    private final CacheManager cacheManager;
+
+    @PostUpdate
+    @PostRemove
+    void onUserChanged(User user) {
+        String email = user.getNormalizedEmail();
+        evict(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(email);
+                }
+            });
+        }
+    }
+
+    private void evict(String email) {
+        Stream.of(USERS_CACHE, PRINCIPALS_CACHE)
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .forEach(cache -> cache.evict(email));
+    }
+
+}
@@ -2,7 +2,7 @@ package com.umanski.eventfinder.user;
 
 import com.umanski.eventfinder.common.exception.ErrorResponse;
 import com.umanski.eventfinder.user.model.dto.ChangePasswordDto;
-import com.umanski.eventfinder.user.model.entity.User;
+import com.umanski.eventfinder.user.model.security.UserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -25,6 +25,7 @@ import org.springframework.web.bind.annotation.RestController;
 class UserProfileController {
 
     private final UserProfileService userProfileService;
+    private final UserService userService;
 
     @Operation(operationId = "change-password", summary = "Change User's password", tags = {"User profile"},
             description = "Service used to change password of an existing user.",
@@ -49,8 +50,8 @@ class UserProfileController {
             }
     )
     @PostMapping(value = "/change-password", produces = MediaType.APPLICATION_JSON_VALUE, consumes = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<Void> changePassword(@AuthenticationPrincipal User user, @Valid @RequestBody ChangePasswordDto changePasswordDto) {
-        userProfileService.changePassword(user, changePasswordDto);
+    public ResponseEntity<Void> changePassword(@AuthenticationPrincipal UserPrincipal principal, @Valid @RequestBody ChangePasswordDto changePasswordDto) {
+        userProfileService.changePassword(userService.loadUser(principal), changePasswordDto);
         return ResponseEntity.noContent().build();
     }
 
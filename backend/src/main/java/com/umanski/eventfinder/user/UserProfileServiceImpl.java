@@ -4,7 +4,6 @@ import com.umanski.eventfinder.user.exception.ChangePasswordValidationException;
 import com.umanski.eventfinder.user.exception.UserSaveException;
 import com.umanski.eventfinder.user.model.dto.ChangePasswordDto;
 import com.umanski.eventfinder.user.model.entity.User;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -19,7 +18,6 @@ class UserProfileServiceImpl implements UserProfileService {
     private final PasswordEncoder passwordEncoder;
 
     @Override
-    @Transactional
     public void changePassword(User user, ChangePasswordDto changePasswordDto) {
         validatePasswordChange(user, changePasswordDto);
         updatePassword(user, changePasswordDto.getNewPassword());
@@ -8,8 +8,8 @@ import java.util.UUID;
 
 interface UserRepository extends JpaRepository<User, UUID> {
 
-    Optional<User> findUserByEmail(String email);
+    Optional<User> findByNormalizedEmail(String normalizedEmail);
 
-    boolean existsByEmailIgnoreCase(String email);
+    boolean existsByNormalizedEmail(String normalizedEmail);
 
 }
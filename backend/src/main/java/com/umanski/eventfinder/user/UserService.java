@@ -1,11 +1,21 @@
 package com.umanski.eventfinder.user;
 
 import com.umanski.eventfinder.user.model.entity.User;
+import com.umanski.eventfinder.user.model.security.UserPrincipal;
 
 import java.util.Optional;
+import java.util.UUID;
 
 public interface UserService {
 
     Optional<User> findUserByEmail(String username);
 
+    Optional<UserPrincipal> findPrincipalByEmail(String username);
+
+    User loadUser(UserPrincipal principal);
+
+    User getUserReference(UUID id);
+
+    User updatePassword(String username, String encodedPassword);
+
 }
@@ -1,20 +1,69 @@
 package com.umanski.eventfinder.user;
 
+import com.umanski.eventfinder.common.util.EmailNormalizer;
+import com.umanski.eventfinder.config.ReadYourWritesWindow;
 import com.umanski.eventfinder.user.model.entity.User;
+import com.umanski.eventfinder.user.model.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
+import java.util.UUID;
 
+import static com.umanski.eventfinder.config.CacheConfig.PRINCIPALS_CACHE;
+import static com.umanski.eventfinder.config.CacheConfig.USERS_CACHE;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final ReadYourWritesWindow readYourWritesWindow;
 
     @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = USERS_CACHE, key = "T(com.umanski.eventfinder.common.util.EmailNormalizer).normalize(#username)", unless = "#result == null")
     public Optional<User> findUserByEmail(String username) {
-        return userRepository.findUserByEmail(username);
+        String normalizedEmail = EmailNormalizer.normalize(username);
+        return readYourWritesWindow.read(normalizedEmail, () -> userRepository.findByNormalizedEmail(normalizedEmail));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = PRINCIPALS_CACHE, key = "T(com.umanski.eventfinder.common.util.EmailNormalizer).normalize(#username)", unless = "#result == null")
+    public Optional<UserPrincipal> findPrincipalByEmail(String username) {
+        String normalizedEmail = EmailNormalizer.normalize(username);
+        return readYourWritesWindow.read(normalizedEmail, () -> userRepository.findByNormalizedEmail(normalizedEmail))
+                .map(UserPrincipal::from);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public User loadUser(UserPrincipal principal) {
+        return userRepository.findById(principal.getId())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+    }
+
+    @Override
+    public User getUserReference(UUID id) {
+        return userRepository.getReferenceById(id);
+    }
+
+    @Override
+    @Transactional
+    public User updatePassword(String username, String encodedPassword) {
+        User user = userRepository.findByNormalizedEmail(EmailNormalizer.normalize(username))
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        readYourWritesWindow.recordWrite(user.getNormalizedEmail());
+        user.setPassword(encodedPassword);
+        User savedUser = userRepository.save(user);
+        log.info("Upgraded password encoding for user with id: {}", savedUser.getId());
+        return savedUser;
     }
 
 }
@@ -14,18 +14,21 @@ import java.time.Instant;
 @SuperBuilder
 @AllArgsConstructor
 @RequiredArgsConstructor
-@Table(name = "tokens")
+@Table(name = "tokens", indexes = @Index(name = "idx_tokens_expiration_date", columnList = "expiration_date"))
 public class Token extends BaseEntity {
 
-    @Column(name = "token", nullable = false, unique = true, length = 512)
-    private String token;
+    @Column(name = "token_hash", nullable = false, unique = true, length = 32)
+    private byte[] tokenHash;
+
+    @Column(name = "jti", unique = true, length = 36)
+    private String jti;
 
     @Builder.Default
     @Enumerated(EnumType.STRING)
     @Column(name = "token_type", nullable = false, length = 20)
     private TokenType tokenType = TokenType.BEARER;
 
-    @Column(nullable = false)
+    @Column(name = "expiration_date", nullable = false)
     private Instant expirationDate;
 
     @Builder.Default
@@ -1,6 +1,8 @@
 package com.umanski.eventfinder.user.model.entity;
 
 import com.umanski.eventfinder.common.model.BaseEntity;
+import com.umanski.eventfinder.common.util.EmailNormalizer;
+import com.umanski.eventfinder.user.UserCacheEvictionListener;
 import com.umanski.eventfinder.user.model.enums.Role;
 import jakarta.persistence.*;
 import lombok.*;
@@ -17,6 +19,7 @@ import java.util.Collection;
 @AllArgsConstructor
 @RequiredArgsConstructor
 @Table(name = "users")
+@EntityListeners(UserCacheEvictionListener.class)
 public class User extends BaseEntity implements UserDetails {
 
     @Column(name = "first_name", nullable = false, length = 50)
@@ -25,9 +28,12 @@ public class User extends BaseEntity implements UserDetails {
     @Column(name = "last_name", nullable = false, length = 50)
     private String lastName;
 
-    @Column(name = "email", nullable = false, unique = true, length = 50)
+    @Column(name = "email", nullable = false, length = 50)
     private String email;
 
+    @Column(name = "email_normalized", nullable = false, unique = true, length = 50)
+    private String normalizedEmail;
+
     @Column(name = "password", nullable = false, length = 1024)
     private String password;
 
@@ -36,6 +42,12 @@ public class User extends BaseEntity implements UserDetails {
     @Column(name = "role", nullable = false, length = 20)
     private Role role = Role.USER;
 
+    @PrePersist
+    @PreUpdate
+    void normalizeEmail() {
+        normalizedEmail = EmailNormalizer.normalize(email);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return role.getAuthorities();
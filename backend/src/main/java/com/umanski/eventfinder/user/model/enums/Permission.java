@@ -1,10 +1,8 @@
 package com.umanski.eventfinder.user.model.enums;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 @Getter
-@RequiredArgsConstructor
 public enum Permission {
 
     ADMIN_READ("admin:read"),
@@ -12,6 +10,26 @@ public enum Permission {
     ADMIN_CREATE("admin:create"),
     ADMIN_DELETE("admin:delete");
 
+    static {
+        if (values().length > Long.SIZE) {
+            throw new IllegalStateException("Permission masks support at most " + Long.SIZE + " permissions");
+        }
+    }
+
     private final String permission;
+    private final long mask;
+
+    Permission(String permission) {
+        this.permission = permission;
+        this.mask = 1L << ordinal();
+    }
+
+    public static long maskOf(Iterable<Permission> permissions) {
+        long mask = 0L;
+        for (Permission permission : permissions) {
+            mask |= permission.mask;
+        }
+        return mask;
+    }
 
 }
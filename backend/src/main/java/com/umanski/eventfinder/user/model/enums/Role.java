@@ -1,18 +1,16 @@
 package com.umanski.eventfinder.user.model.enums;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import static com.umanski.eventfinder.user.model.enums.Permission.*;
 
 @Getter
-@RequiredArgsConstructor
 public enum Role {
 
     USER(
@@ -28,14 +26,31 @@ public enum Role {
     );
 
     private final Set<Permission> permissions;
+    private final List<SimpleGrantedAuthority> authorities;
+    private final long permissionMask;
 
-    public List<SimpleGrantedAuthority> getAuthorities() {
-        var authorities = getPermissions()
-                .stream()
+    Role(Set<Permission> permissions) {
+        this.permissions = Set.copyOf(permissions);
+        this.authorities = createAuthorities(this.permissions, "ROLE_" + name());
+        this.permissionMask = Permission.maskOf(this.permissions);
+    }
+
+    public boolean hasPermission(Permission permission) {
+        return (permissionMask & permission.getMask()) != 0;
+    }
+
+    public boolean hasAllPermissions(long requiredMask) {
+        return (permissionMask & requiredMask) == requiredMask;
+    }
+
+    private static List<SimpleGrantedAuthority> createAuthorities(Set<Permission> permissions, String roleAuthority) {
+        List<SimpleGrantedAuthority> authorities = new ArrayList<>(permissions.size() + 1);
+        permissions.stream()
+                .sorted()
                 .map(permission -> new SimpleGrantedAuthority(permission.getPermission()))
-                .collect(Collectors.toList());
-        authorities.add(new SimpleGrantedAuthority("ROLE_" + name()));
-        return authorities;
+                .forEach(authorities::add);
+        authorities.add(new SimpleGrantedAuthority(roleAuthority));
+        return List.copyOf(authorities);
     }
 
 }
@@ -0,0 +1,40 @@
+package com.umanski.eventfinder.user.model.security;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.umanski.eventfinder.user.model.entity.User;
+import com.umanski.eventfinder.user.model.enums.Role;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Value
+@AllArgsConstructor(onConstructor_ = @JsonCreator)
+public class UserPrincipal implements AuthenticatedPrincipal {
+
+    UUID id;
+
+    String email;
+
+    Role role;
+
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(user.getId(), user.getEmail(), user.getRole());
+    }
+
+    @JsonIgnore
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return role.getAuthorities();
+    }
+
+    @Override
+    @JsonIgnore
+    public String getName() {
+        return email;
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.umanski.eventfinder.user.model.security;
+
+import com.umanski.eventfinder.user.model.enums.Role;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Value
+@Builder
+public class VerifiedToken {
+
+    String token;
+
+    String subject;
+
+    UUID userId;
+
+    Role role;
+
+    String type;
+
+    String jti;
+
+    Instant expiration;
+
+}
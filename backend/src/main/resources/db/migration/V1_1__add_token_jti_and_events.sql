@@ -0,0 +1,24 @@
+-- Objects added after the schema Hibernate generated, guarded for databases that already received them that way
+
+alter table tokens add column if not exists jti varchar(36);
+create unique index if not exists uk_tokens_jti on tokens (jti);
+
+-- Expired tokens are deleted in batches by the reaper
+create index if not exists idx_tokens_expiration_date on tokens (expiration_date);
+
+create table if not exists events (
+    id                 uuid                        not null,
+    title              varchar(100)                not null,
+    description        varchar(2000),
+    latitude           float(53)                   not null,
+    longitude          float(53)                   not null,
+    start_time         timestamp(6) with time zone not null,
+    end_time           timestamp(6) with time zone not null,
+    organizer_id       uuid                        not null,
+    creation_timestamp timestamp(6)                not null,
+    update_timestamp   timestamp(6)                not null,
+    constraint pk_events primary key (id),
+    constraint fk_events_organizer foreign key (organizer_id) references users (id)
+);
+
+create index if not exists idx_events_start_time_id on events (start_time, id);
@@ -0,0 +1,28 @@
+create table users (
+    id                 uuid          not null,
+    first_name         varchar(50)   not null,
+    last_name          varchar(50)   not null,
+    email              varchar(50)   not null,
+    password           varchar(1024) not null,
+    role               varchar(20)   not null,
+    creation_timestamp timestamp(6)  not null,
+    update_timestamp   timestamp(6)  not null,
+    constraint pk_users primary key (id),
+    constraint uk_users_email unique (email),
+    constraint ck_users_role check (role in ('USER', 'ADMIN'))
+);
+
+create table tokens (
+    id                 uuid                        not null,
+    token              varchar(512)                not null,
+    token_type         varchar(20)                 not null,
+    expiration_date    timestamp(6) with time zone not null,
+    revoked            boolean                     not null,
+    user_id            uuid                        not null,
+    creation_timestamp timestamp(6)                not null,
+    update_timestamp   timestamp(6)                not null,
+    constraint pk_tokens primary key (id),
+    constraint uk_tokens_token unique (token),
+    constraint ck_tokens_token_type check (token_type in ('BEARER')),
+    constraint fk_tokens_user foreign key (user_id) references users (id)
+);
@@ -0,0 +1,8 @@
+-- Live tokens of a user, looked up and revoked on every login, refresh and logout
+create index if not exists idx_tokens_user_id_live on tokens (user_id) where revoked = false;
+
+-- Case-insensitive email uniqueness and lookups
+create unique index if not exists ux_users_email_lower on users (lower(email));
+
+-- Nearby and bounding-box event search
+create index if not exists idx_events_location on events using gist (point(longitude, latitude));
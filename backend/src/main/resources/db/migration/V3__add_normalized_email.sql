@@ -0,0 +1,51 @@
+-- Canonical email used for every lookup, probed by plain equality
+alter table users add column email_normalized text;
+
+-- Same form as EmailNormalizer: String.strip() removes the Character.isWhitespace characters listed in the class,
+-- followed by NFKC and the ICU root lower case that matches Locale.ROOT. Both need a UTF8 database, elsewhere only
+-- the whitespace is stripped and the case lowered, which gives the same form for ASCII emails.
+do $$
+declare
+    stripped_email text := $sql$regexp_replace(email,
+            '^[\u0009-\u000D\u001C-\u0020\u1680\u2000-\u2006\u2008-\u200A\u2028\u2029\u205F\u3000]+|[\u0009-\u000D\u001C-\u0020\u1680\u2000-\u2006\u2008-\u200A\u2028\u2029\u205F\u3000]+$', '', 'g')$sql$;
+begin
+    if getdatabaseencoding() = 'UTF8' then
+        execute format('update users set email_normalized = lower(normalize(%s, NFKC) collate "und-x-icu")', stripped_email);
+    else
+        execute format('update users set email_normalized = lower(%s)', stripped_email);
+    end if;
+end $$;
+
+-- NFKC can expand an email beyond the column width
+do $$
+declare
+    too_long text;
+begin
+    select string_agg(id::text, ', ') into too_long from users where length(email_normalized) > 50;
+    if too_long is not null then
+        raise exception 'Normalized email exceeds 50 characters for users: %', too_long;
+    end if;
+end $$;
+
+alter table users alter column email_normalized type varchar(50);
+alter table users alter column email_normalized set not null;
+alter table users add constraint uk_users_email_normalized unique (email_normalized);
+
+-- Superseded by the normalized email, databases baselined from Hibernate named the unique constraint on email UK...
+drop index if exists ux_users_email_lower;
+do $$
+declare
+    email_constraint name;
+begin
+    for email_constraint in
+        select c.conname
+        from pg_constraint c
+                 join pg_attribute a on a.attrelid = c.conrelid and a.attnum = c.conkey[1]
+        where c.conrelid = 'users'::regclass
+          and c.contype = 'u'
+          and cardinality(c.conkey) = 1
+          and a.attname = 'email'
+        loop
+            execute format('alter table users drop constraint %I', email_constraint);
+        end loop;
+end $$;
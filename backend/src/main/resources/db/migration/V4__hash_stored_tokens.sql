@@ -0,0 +1,18 @@
+-- Tokens are identified by the SHA-256 digest of the compact JWT, the JWT itself is no longer stored
+
+-- Rows written before the jti column was filled carry it only inside the JWT payload
+update tokens
+set jti = convert_from(decode(rpad(translate(split_part(token, '.', 2), '-_', '+/'),
+                                   (length(split_part(token, '.', 2)) + 3) / 4 * 4, '='), 'base64'), 'UTF8')::jsonb ->> 'jti'
+where jti is null
+  and token ~ '^[A-Za-z0-9_-]+\.[A-Za-z0-9_-]+\.[A-Za-z0-9_-]+$';
+
+alter table tokens add column token_hash bytea;
+
+update tokens set token_hash = sha256(convert_to(token, 'UTF8'));
+
+alter table tokens alter column token_hash set not null;
+alter table tokens add constraint ck_tokens_token_hash_length check (octet_length(token_hash) = 32);
+alter table tokens add constraint uk_tokens_token_hash unique (token_hash);
+
+alter table tokens drop column token;
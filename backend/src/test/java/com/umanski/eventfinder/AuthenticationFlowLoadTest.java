@@ -0,0 +1,233 @@
+package com.umanski.eventfinder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@Tag("LoadTest")
+@ActiveProfiles("load-test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AuthenticationFlowLoadTest {
+
+    private static final String REGISTER = "register";
+    private static final String AUTHENTICATE = "authenticate";
+    private static final String LIST_EVENTS = "list-events";
+    private static final String REFRESH_TOKEN = "refresh-token";
+    private static final String LOGOUT = "logout";
+    private static final List<String> ENDPOINTS = List.of(REGISTER, AUTHENTICATE, LIST_EVENTS, REFRESH_TOKEN, LOGOUT);
+    private static final String PASSWORD = "load-test-password";
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private Environment environment;
+    @Value("${load-test.concurrency}")
+    private int concurrency;
+    @Value("${load-test.warmup-flows-per-worker}")
+    private int warmupFlowsPerWorker;
+    @Value("${load-test.flows-per-worker}")
+    private int flowsPerWorker;
+    @Value("${load-test.max-error-rate}")
+    private double maxErrorRate;
+    @Value("${load-test.thresholds.min-flow-throughput}")
+    private double minFlowThroughput;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final Map<String, Histogram> latencies = new ConcurrentHashMap<>();
+    private final LongAdder completedFlows = new LongAdder();
+    private final LongAdder failedFlows = new LongAdder();
+
+    @Test
+    void authenticationFlow_ConfiguredConcurrency_StaysWithinThresholds() throws Exception {
+        runFlows(warmupFlowsPerWorker);
+        resetStatistics();
+
+        long start = System.nanoTime();
+        runFlows(flowsPerWorker);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        Map<String, Object> report = createReport(elapsed);
+        writeReport(report);
+        assertWithinThresholds(elapsed);
+    }
+
+    private void runFlows(int flowsPerWorker) throws InterruptedException, ExecutionException {
+        try (ExecutorService executor = Executors.newFixedThreadPool(concurrency)) {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int worker = 0; worker < concurrency; worker++) {
+                workers.add(executor.submit(() -> {
+                    for (int flow = 0; flow < flowsPerWorker; flow++) {
+                        runFlow();
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        }
+    }
+
+    private void runFlow() {
+        String email = "lt-" + UUID.randomUUID().toString().replace("-", "") + "@example.com";
+        try {
+            send(REGISTER, post("/api/v1/auth/register", Map.of(
+                    "email", email,
+                    "firstName", "Load",
+                    "lastName", "Test",
+                    "password", PASSWORD,
+                    "confirmPassword", PASSWORD
+            )), HttpStatus.CREATED);
+            JsonNode tokens = send(AUTHENTICATE, post("/api/v1/auth/authenticate", Map.of(
+                    "email", email,
+                    "password", PASSWORD
+            )), HttpStatus.OK);
+            send(LIST_EVENTS, HttpRequest.newBuilder(uri("/api/v1/events?limit=20"))
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokens.get("accessToken").asText())
+                    .GET()
+                    .build(), HttpStatus.OK);
+            JsonNode refreshedTokens = send(REFRESH_TOKEN, post("/api/v1/auth/refresh-token", Map.of(
+                    "refreshToken", tokens.get("refreshToken").asText()
+            )), HttpStatus.OK);
+            send(LOGOUT, post("/api/v1/auth/logout", Map.of(
+                    "refreshToken", refreshedTokens.get("refreshToken").asText()
+            )), HttpStatus.NO_CONTENT);
+            completedFlows.increment();
+        } catch (Exception e) {
+            failedFlows.increment();
+            log.warn("Load test flow failed: {}", e.getMessage());
+        }
+    }
+
+    private JsonNode send(String endpoint, HttpRequest request, HttpStatus expectedStatus) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        latencies.computeIfAbsent(endpoint, key -> new ConcurrentHistogram(3))
+                .recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        if (response.statusCode() != expectedStatus.value()) {
+            throw new IllegalStateException(endpoint + " returned " + response.statusCode() + ": " + response.body());
+        }
+        return response.body().isEmpty() ? null : objectMapper.readTree(response.body());
+    }
+
+    private HttpRequest post(String path, Map<String, String> body) throws IOException {
+        return HttpRequest.newBuilder(uri(path))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private void resetStatistics() {
+        latencies.clear();
+        completedFlows.reset();
+        failedFlows.reset();
+    }
+
+    private Map<String, Object> createReport(Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1e9;
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        for (String endpoint : ENDPOINTS) {
+            Histogram histogram = latencies.getOrDefault(endpoint, new Histogram(3));
+            Map<String, Object> statistics = new LinkedHashMap<>();
+            statistics.put("requests", histogram.getTotalCount());
+            statistics.put("throughputPerSecond", histogram.getTotalCount() / seconds);
+            statistics.put("p50Millis", percentileMillis(histogram, 50.0));
+            statistics.put("p99Millis", percentileMillis(histogram, 99.0));
+            statistics.put("p999Millis", percentileMillis(histogram, 99.9));
+            statistics.put("maxMillis", histogram.getMaxValue() / 1_000.0);
+            endpoints.put(endpoint, statistics);
+            log.info("{}: {} requests, {} req/s, p50 {} ms, p99 {} ms, p999 {} ms, max {} ms", endpoint,
+                    statistics.get("requests"), String.format("%.1f", (double) statistics.get("throughputPerSecond")),
+                    statistics.get("p50Millis"), statistics.get("p99Millis"), statistics.get("p999Millis"), statistics.get("maxMillis"));
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("profiles", environment.getActiveProfiles());
+        report.put("concurrency", concurrency);
+        report.put("elapsedMillis", elapsed.toMillis());
+        report.put("completedFlows", completedFlows.sum());
+        report.put("failedFlows", failedFlows.sum());
+        report.put("flowThroughputPerSecond", completedFlows.sum() / seconds);
+        report.put("endpoints", endpoints);
+        log.info("{} flows completed, {} failed in {} ms at concurrency {} ({} flows/s)", completedFlows.sum(), failedFlows.sum(),
+                elapsed.toMillis(), concurrency, String.format("%.1f", (double) report.get("flowThroughputPerSecond")));
+        return report;
+    }
+
+    private void writeReport(Map<String, Object> report) throws IOException {
+        Path reportFile = Path.of("target", "load-test", getClass().getSimpleName() + ".json");
+        Files.createDirectories(reportFile.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), report);
+        log.info("Load test report written to {}", reportFile.toAbsolutePath());
+    }
+
+    private void assertWithinThresholds(Duration elapsed) {
+        List<String> violations = new ArrayList<>();
+        long totalFlows = completedFlows.sum() + failedFlows.sum();
+        double errorRate = totalFlows == 0 ? 1.0 : (double) failedFlows.sum() / totalFlows;
+        if (errorRate > maxErrorRate) {
+            violations.add(String.format("error rate %.4f exceeds %.4f", errorRate, maxErrorRate));
+        }
+        double flowThroughput = completedFlows.sum() / (elapsed.toNanos() / 1e9);
+        if (flowThroughput < minFlowThroughput) {
+            violations.add(String.format("flow throughput %.1f/s is below %.1f/s", flowThroughput, minFlowThroughput));
+        }
+        for (String endpoint : ENDPOINTS) {
+            Histogram histogram = latencies.getOrDefault(endpoint, new Histogram(3));
+            checkPercentile(endpoint, "p99", histogram, 99.0, violations);
+            checkPercentile(endpoint, "p999", histogram, 99.9, violations);
+        }
+        assertTrue(violations.isEmpty(), "Load test thresholds exceeded: " + String.join("; ", violations));
+    }
+
+    private void checkPercentile(String endpoint, String name, Histogram histogram, double percentile, List<String> violations) {
+        Duration threshold = environment.getProperty("load-test.thresholds." + endpoint + "." + name, Duration.class);
+        if (threshold == null) {
+            return;
+        }
+        double actualMillis = percentileMillis(histogram, percentile);
+        if (actualMillis > threshold.toMillis()) {
+            violations.add(String.format("%s %s %.1f ms exceeds %d ms", endpoint, name, actualMillis, threshold.toMillis()));
+        }
+    }
+
+    private double percentileMillis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1_000.0;
+    }
+
+}
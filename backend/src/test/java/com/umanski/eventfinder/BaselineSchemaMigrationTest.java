@@ -0,0 +1,99 @@
+package com.umanski.eventfinder;
+
+import com.umanski.eventfinder.common.util.TokenDigest;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@JdbcTest
+@Tag("PostgreSQL")
+@ActiveProfiles("postgres")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BaselineSchemaMigrationTest {
+
+    private static final String SCHEMA = "baseline_migration";
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("drop schema if exists " + SCHEMA + " cascade");
+        jdbcTemplate.execute("create schema " + SCHEMA);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("drop schema if exists " + SCHEMA + " cascade");
+    }
+
+    @Test
+    void migrate_HibernateGeneratedSchema_BaselinesAndAppliesLaterMigrations() throws SQLException {
+        UUID userId = UUID.randomUUID();
+        String jti = UUID.randomUUID().toString();
+        String token = legacyToken(jti);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setSchema(SCHEMA);
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/baseline/hibernate_schema.sql"));
+            JdbcTemplate baselineJdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            baselineJdbcTemplate.update("""
+                    insert into users (id, first_name, last_name, email, password, role, creation_timestamp, update_timestamp)
+                    values (?, 'John', 'Doe', ' John.Doe@Example.com ', 'password', 'USER', now(), now())
+                    """, userId);
+            baselineJdbcTemplate.update("""
+                    insert into tokens (id, token, token_type, expiration_date, revoked, user_id, creation_timestamp, update_timestamp)
+                    values (?, ?, 'BEARER', now() + interval '1 day', false, ?, now(), now())
+                    """, UUID.randomUUID(), token, userId);
+        }
+
+        MigrateResult result = Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(SCHEMA)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        assertTrue(result.success);
+        assertEquals("4", result.targetSchemaVersion);
+        assertEquals("john.doe@example.com",
+                jdbcTemplate.queryForObject("select email_normalized from " + SCHEMA + ".users where id = ?", String.class, userId));
+        assertEquals(jti, jdbcTemplate.queryForObject("select jti from " + SCHEMA + ".tokens where user_id = ?", String.class, userId));
+        assertArrayEquals(TokenDigest.sha256(token),
+                jdbcTemplate.queryForObject("select token_hash from " + SCHEMA + ".tokens where user_id = ?", byte[].class, userId));
+        assertNotNull(jdbcTemplate.queryForObject("select to_regclass(?)", String.class, SCHEMA + ".idx_events_location"));
+        assertNotNull(jdbcTemplate.queryForObject("select to_regclass(?)", String.class, SCHEMA + ".idx_tokens_expiration_date"));
+    }
+
+    private String legacyToken(String jti) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(("{\"jti\":\"" + jti + "\",\"sub\":\"john.doe@example.com\"}").getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString("signature".getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.umanski.eventfinder;
+
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("virtual-threads")
+class VirtualThreadsAuthenticationFlowLoadTest extends AuthenticationFlowLoadTest {
+
+}
@@ -0,0 +1,101 @@
+package com.umanski.eventfinder.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.umanski.eventfinder.user.model.enums.Role;
+import com.umanski.eventfinder.user.model.security.UserPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("UnitTest")
+class TwoLevelCacheTest {
+
+    private static final String CACHE_NAME = "principals";
+    private static final String KEY = "john.doe@example.com";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private EmbeddedSharedCacheStore sharedStore;
+    private SimpleMeterRegistry firstNodeRegistry;
+    private SimpleMeterRegistry secondNodeRegistry;
+    private TwoLevelCache firstNode;
+    private TwoLevelCache secondNode;
+
+    @BeforeEach
+    void setUp() {
+        sharedStore = new EmbeddedSharedCacheStore(Clock.systemUTC(), Runnable::run);
+        firstNodeRegistry = new SimpleMeterRegistry();
+        secondNodeRegistry = new SimpleMeterRegistry();
+        firstNode = node(firstNodeRegistry);
+        secondNode = node(secondNodeRegistry);
+    }
+
+    @Test
+    void get_MissingLocallyButPresentInSharedTier_PopulatesLocalCache() {
+        UserPrincipal principal = principal();
+        firstNode.put(KEY, principal);
+
+        UserPrincipal cachedPrincipal = secondNode.get(KEY, UserPrincipal.class);
+
+        assertEquals(principal, cachedPrincipal);
+        assertEquals(Role.ADMIN, cachedPrincipal.getRole());
+        assertNotNull(secondNode.getNativeCache().getIfPresent(KEY));
+        assertEquals(1.0, secondNodeRegistry.get("cache.shared.gets").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void evict_OnOneNode_InvalidatesLocalCopiesOnOtherNodes() {
+        firstNode.put(KEY, principal());
+        assertNotNull(secondNode.get(KEY));
+
+        firstNode.evict(KEY);
+
+        assertNull(secondNode.getNativeCache().getIfPresent(KEY));
+        assertNull(secondNode.get(KEY));
+        assertEquals(1, secondNodeRegistry.get("cache.invalidation.lag").tag("cache", CACHE_NAME).timer().count());
+        assertNull(firstNodeRegistry.find("cache.invalidation.lag").timer());
+    }
+
+    @Test
+    void clear_OnOneNode_EmptiesAllTiers() {
+        firstNode.put(KEY, principal());
+        assertNotNull(secondNode.get(KEY));
+
+        firstNode.clear();
+
+        assertEquals(0, secondNode.getNativeCache().estimatedSize());
+        assertTrue(sharedStore.get(CACHE_NAME + ":" + KEY).isEmpty());
+    }
+
+    @Test
+    void sharedStore_ExpiredEntries_AreNotReturned() {
+        EmbeddedSharedCacheStore store = new EmbeddedSharedCacheStore(Clock.fixed(Instant.now(), ZoneOffset.UTC), Runnable::run);
+        store.put("expired", new byte[]{1}, Duration.ZERO);
+        store.put("live", new byte[]{1}, Duration.ofMinutes(1));
+
+        assertTrue(store.get("expired").isEmpty());
+        assertTrue(store.get("live").isPresent());
+        store.put("expired", new byte[]{1}, Duration.ZERO);
+        assertEquals(1, store.purgeExpired());
+    }
+
+    private TwoLevelCache node(SimpleMeterRegistry meterRegistry) {
+        return new TwoLevelCache(CACHE_NAME, Caffeine.newBuilder().build(), sharedStore, new CacheInvalidationBus(sharedStore, meterRegistry),
+                objectMapper, UserPrincipal.class, Duration.ofMinutes(5), meterRegistry);
+    }
+
+    private UserPrincipal principal() {
+        return new UserPrincipal(UUID.randomUUID(), "John.Doe@example.com", Role.ADMIN);
+    }
+
+}
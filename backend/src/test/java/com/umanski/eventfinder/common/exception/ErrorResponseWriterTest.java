@@ -0,0 +1,72 @@
+package com.umanski.eventfinder.common.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.InsufficientAuthenticationException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("UnitTest")
+class ErrorResponseWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SimpleMeterRegistry meterRegistry;
+    private ErrorResponseWriter errorResponseWriter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Clock clock = Clock.fixed(Instant.parse("2024-05-19T08:37:11.256Z"), ZoneOffset.UTC);
+        errorResponseWriter = new ErrorResponseWriter(objectMapper, meterRegistry, clock);
+    }
+
+    @Test
+    void write_UnauthorizedTemplate_WritesErrorResponseJson() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        errorResponseWriter.template(HttpStatus.UNAUTHORIZED, "Authentication Failed")
+                .write(response, new InsufficientAuthenticationException("Full authentication is required"), "/api/v1/events");
+
+        assertEquals(401, response.getStatus());
+        assertEquals("application/json;charset=UTF-8", response.getContentType());
+        assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+        ErrorResponse errorResponse = objectMapper.readValue(response.getContentAsByteArray(), ErrorResponse.class);
+        assertEquals(new ErrorResponse("2024-05-19T08:37:11.256Z", 401, "Authentication Failed", "/api/v1/events"), errorResponse);
+        assertEquals(1.0, meterRegistry.get("api.errors")
+                .tag("exception", "InsufficientAuthenticationException")
+                .tag("status", "401")
+                .counter().count());
+    }
+
+    @Test
+    void write_PathWithSpecialCharacters_EscapesPath() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String path = "/api/v1/events/\"ż\\\n";
+
+        errorResponseWriter.template(HttpStatus.NOT_FOUND, "Not \"Found\"")
+                .write(response, new IllegalStateException(), path);
+
+        ErrorResponse errorResponse = objectMapper.readValue(response.getContentAsByteArray(), ErrorResponse.class);
+        assertEquals(path, errorResponse.getPath());
+        assertEquals("Not \"Found\"", errorResponse.getError());
+        assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+    }
+
+    @Test
+    void template_SameStatusAndMessage_ReturnsCachedTemplate() {
+        assertSame(errorResponseWriter.template(HttpStatus.UNAUTHORIZED, "Authentication Failed"),
+                errorResponseWriter.template(HttpStatus.UNAUTHORIZED, "Authentication Failed"));
+        assertSame(errorResponseWriter.currentTimestamp(), errorResponseWriter.currentTimestamp());
+    }
+
+}
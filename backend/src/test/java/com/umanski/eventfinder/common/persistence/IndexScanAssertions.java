@@ -0,0 +1,53 @@
+package com.umanski.eventfinder.common.persistence;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@RequiredArgsConstructor
+public class IndexScanAssertions {
+
+    private static final String SCAN_COUNTS = """
+            select coalesce(seq_scan, 0) as seq_scan, coalesce(idx_scan, 0) as idx_scan\s
+            from pg_stat_xact_user_tables where relname = ?\s
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public void disableSequentialScans() {
+        jdbcTemplate.execute("set local enable_seqscan = off");
+    }
+
+    public void assertIndexScan(String table, Runnable query) {
+        entityManager.flush();
+        entityManager.clear();
+        ScanCounts before = scanCounts(table);
+
+        query.run();
+
+        ScanCounts after = scanCounts(table);
+        assertEquals(before.getSequentialScans(), after.getSequentialScans(), () -> "Query ran a sequential scan on " + table);
+        assertTrue(after.getIndexScans() > before.getIndexScans(), () -> "Query did not scan any index of " + table);
+    }
+
+    private ScanCounts scanCounts(String table) {
+        return jdbcTemplate.queryForObject(SCAN_COUNTS,
+                (rs, rowNum) -> new ScanCounts(rs.getLong("seq_scan"), rs.getLong("idx_scan")),
+                table);
+    }
+
+    @Value
+    private static class ScanCounts {
+
+        long sequentialScans;
+
+        long indexScans;
+
+    }
+
+}
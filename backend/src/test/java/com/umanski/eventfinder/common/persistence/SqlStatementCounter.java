@@ -0,0 +1,77 @@
+package com.umanski.eventfinder.common.persistence;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SqlStatementCounter implements StatementInspector {
+
+    private final ThreadLocal<List<String>> statements = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        statements.get().add(sql);
+        return sql;
+    }
+
+    public void reset() {
+        statements.get().clear();
+    }
+
+    public List<String> getStatements() {
+        return List.copyOf(statements.get());
+    }
+
+    public long count(StatementType type) {
+        return statements.get().stream()
+                .filter(sql -> StatementType.of(sql) == type)
+                .count();
+    }
+
+    public void assertStatementCount(int expected) {
+        assertEquals(expected, statements.get().size(), this::describeStatements);
+    }
+
+    public void assertStatementCount(int selects, int inserts, int updates, int deletes) {
+        assertEquals(selects, count(StatementType.SELECT), () -> "Unexpected number of selects. " + describeStatements());
+        assertEquals(inserts, count(StatementType.INSERT), () -> "Unexpected number of inserts. " + describeStatements());
+        assertEquals(updates, count(StatementType.UPDATE), () -> "Unexpected number of updates. " + describeStatements());
+        assertEquals(deletes, count(StatementType.DELETE), () -> "Unexpected number of deletes. " + describeStatements());
+        assertStatementCount(selects + inserts + updates + deletes);
+    }
+
+    private String describeStatements() {
+        List<String> issued = statements.get();
+        StringBuilder description = new StringBuilder("Issued ").append(issued.size()).append(" statement(s):");
+        for (int i = 0; i < issued.size(); i++) {
+            description.append(System.lineSeparator()).append(i + 1).append(". ").append(issued.get(i));
+        }
+        return description.toString();
+    }
+
+    public enum StatementType {
+        SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+        static StatementType of(String sql) {
+            String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+            if (statement.startsWith("select") || statement.startsWith("with")) {
+                return SELECT;
+            }
+            if (statement.startsWith("insert")) {
+                return INSERT;
+            }
+            if (statement.startsWith("update")) {
+                return UPDATE;
+            }
+            if (statement.startsWith("delete")) {
+                return DELETE;
+            }
+            return OTHER;
+        }
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.umanski.eventfinder.common.ratelimit;
+
+import com.umanski.eventfinder.common.cache.EmbeddedSharedCacheStore;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("UnitTest")
+class RateLimitBackendTest {
+
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(10);
+    private static final RateLimitPolicy POLICY = new RateLimitPolicy("email", 3, Duration.ofSeconds(10));
+
+    static Stream<Function<AtomicLong, RateLimitBackend>> backends() {
+        return Stream.of(
+                nowMillis -> new LocalTokenBucketBackend(IDLE_TIMEOUT, 1_000, () -> TimeUnit.MILLISECONDS.toNanos(nowMillis.get())),
+                nowMillis -> new SharedStoreRateLimitBackend(new EmbeddedSharedCacheStore(), new MutableClock(nowMillis))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("backends")
+    void tryAcquire_BurstAboveCapacity_RejectsWithTimeUntilNextToken(Function<AtomicLong, RateLimitBackend> backendFactory) {
+        AtomicLong nowMillis = new AtomicLong(1_000_000);
+        RateLimitBackend backend = backendFactory.apply(nowMillis);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0L, backend.tryAcquire("john.doe@example.com", POLICY));
+        }
+
+        assertEquals(TimeUnit.SECONDS.toNanos(10), backend.tryAcquire("john.doe@example.com", POLICY));
+        assertEquals(0L, backend.tryAcquire("jane.doe@example.com", POLICY));
+    }
+
+    @ParameterizedTest
+    @MethodSource("backends")
+    void tryAcquire_AfterRefillInterval_PermitsAgain(Function<AtomicLong, RateLimitBackend> backendFactory) {
+        AtomicLong nowMillis = new AtomicLong(1_000_000);
+        RateLimitBackend backend = backendFactory.apply(nowMillis);
+        for (int i = 0; i < 3; i++) {
+            backend.tryAcquire("john.doe@example.com", POLICY);
+        }
+
+        nowMillis.addAndGet(4_000);
+        assertEquals(TimeUnit.SECONDS.toNanos(6), backend.tryAcquire("john.doe@example.com", POLICY));
+
+        nowMillis.addAndGet(6_000);
+        assertEquals(0L, backend.tryAcquire("john.doe@example.com", POLICY));
+        assertTrue(backend.tryAcquire("john.doe@example.com", POLICY) > 0);
+    }
+
+    static Stream<RateLimitBackend> concurrentBackends() {
+        return Stream.of(
+                new LocalTokenBucketBackend(IDLE_TIMEOUT, 1_000, () -> 0L),
+                new SharedStoreRateLimitBackend(new EmbeddedSharedCacheStore(), Clock.fixed(Instant.EPOCH, ZoneOffset.UTC))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("concurrentBackends")
+    void tryAcquire_ConcurrentCallers_GrantExactlyCapacity(RateLimitBackend backend) throws InterruptedException {
+        RateLimitPolicy policy = new RateLimitPolicy("ip", 100, Duration.ofHours(1));
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 8; thread++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 1_000; i++) {
+                    if (backend.tryAcquire("127.0.0.1", policy) == 0) {
+                        granted.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(100, granted.get());
+    }
+
+    @Test
+    void sharedBackend_InstancesOnSameStore_EnforceOneLimit() {
+        AtomicLong nowMillis = new AtomicLong(1_000_000);
+        EmbeddedSharedCacheStore sharedStore = new EmbeddedSharedCacheStore();
+        RateLimitBackend firstInstance = new SharedStoreRateLimitBackend(sharedStore, new MutableClock(nowMillis));
+        RateLimitBackend secondInstance = new SharedStoreRateLimitBackend(sharedStore, new MutableClock(nowMillis));
+
+        assertEquals(0L, firstInstance.tryAcquire("john.doe@example.com", POLICY));
+        assertEquals(0L, secondInstance.tryAcquire("john.doe@example.com", POLICY));
+        assertEquals(0L, firstInstance.tryAcquire("john.doe@example.com", POLICY));
+
+        assertTrue(secondInstance.tryAcquire("john.doe@example.com", POLICY) > 0);
+    }
+
+    @Test
+    void localBackend_MoreKeysThanMaximum_StaysBounded() {
+        LocalTokenBucketBackend backend = new LocalTokenBucketBackend(IDLE_TIMEOUT, 100, System::nanoTime);
+
+        for (int i = 0; i < 10_000; i++) {
+            backend.tryAcquire("10.0.0." + i, POLICY);
+        }
+
+        assertTrue(backend.trackedKeys() <= 100);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private final AtomicLong nowMillis;
+
+        private MutableClock(AtomicLong nowMillis) {
+            this.nowMillis = nowMillis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(nowMillis.get());
+        }
+
+    }
+
+}
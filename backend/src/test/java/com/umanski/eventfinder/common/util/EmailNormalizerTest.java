@@ -0,0 +1,33 @@
+package com.umanski.eventfinder.common.util;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@Tag("UnitTest")
+class EmailNormalizerTest {
+
+    @Test
+    void normalize_MixedCaseWithSurroundingWhitespace_ReturnsCanonicalForm() {
+        assertEquals("john.doe@example.com", EmailNormalizer.normalize("  John.Doe@Example.COM\t"));
+    }
+
+    @Test
+    void normalize_CompatibilityCharacters_AreFolded() {
+        assertEquals("john@example.com", EmailNormalizer.normalize("ＪＯＨＮ@example.com"));
+    }
+
+    @Test
+    void normalize_UnicodeWhitespace_IsStrippedLikeTheMigrationBackfill() {
+        assertEquals("john@example.com", EmailNormalizer.normalize("\u2003\u001Fjohn@example.com\u3000\u2028"));
+        assertEquals(" john@example.com", EmailNormalizer.normalize("\u00A0john@example.com"));
+    }
+
+    @Test
+    void normalize_Null_ReturnsNull() {
+        assertNull(EmailNormalizer.normalize(null));
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.umanski.eventfinder.common.util;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@Tag("UnitTest")
+class TokenDigestTest {
+
+    @Test
+    void sha256_ReturnsFixedWidthDigest() {
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad",
+                HexFormat.of().formatHex(TokenDigest.sha256("abc")));
+        assertEquals(32, TokenDigest.sha256("header.payload.signature".repeat(20)).length);
+    }
+
+    @Test
+    void sha256_DifferentTokens_ProduceDifferentDigests() {
+        assertFalse(Arrays.equals(TokenDigest.sha256("header.payload.a"), TokenDigest.sha256("header.payload.b")));
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.umanski.eventfinder.common.util;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("UnitTest")
+class UuidV7GeneratorTest {
+
+    private static final long NOW = 1_735_689_600_000L;
+
+    @Test
+    void generate_EncodesVersionVariantAndTimestamp() {
+        UUID uuid = new UuidV7Generator(() -> NOW).generate();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertEquals(NOW, uuid.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void generate_SameMillisecond_IdsAreStrictlyIncreasing() {
+        UuidV7Generator generator = new UuidV7Generator(() -> NOW);
+
+        UUID previous = generator.generate();
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = generator.generate();
+            assertTrue(next.compareTo(previous) > 0, next + " is not after " + previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void generate_ClockMovesBackwards_IdsStayIncreasing() {
+        AtomicLong clock = new AtomicLong(NOW);
+        UuidV7Generator generator = new UuidV7Generator(clock::get);
+
+        UUID beforeAdjustment = generator.generate();
+        clock.set(NOW - 1_000);
+        UUID afterAdjustment = generator.generate();
+
+        assertTrue(afterAdjustment.compareTo(beforeAdjustment) > 0);
+    }
+
+    @Test
+    void generate_ConcurrentThreads_IdsAreUnique() throws Exception {
+        UuidV7Generator generator = new UuidV7Generator(() -> NOW);
+        int threads = 8;
+        int idsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<UUID>>> results = IntStream.range(0, threads)
+                    .mapToObj(i -> executor.submit(() -> {
+                        start.await();
+                        return IntStream.range(0, idsPerThread).mapToObj(j -> generator.generate()).toList();
+                    }))
+                    .toList();
+            start.countDown();
+
+            Set<UUID> ids = ConcurrentHashMap.newKeySet();
+            for (Future<List<UUID>> result : results) {
+                ids.addAll(result.get(30, TimeUnit.SECONDS));
+            }
+            assertEquals(threads * idsPerThread, ids.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.umanski.eventfinder.config;
+
+import com.umanski.eventfinder.common.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("UnitTest")
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+    }
+
+    @Test
+    void encode_DelegatesToWrappedEncoder() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new PrefixPasswordEncoder(), 1, 1, Duration.ofSeconds(1), Duration.ofSeconds(1), new SimpleMeterRegistry());
+
+        assertEquals("encoded:password", encoder.encode("password"));
+        assertTrue(encoder.matches("password", "encoded:password"));
+    }
+
+    @Test
+    void encode_PoolAndQueueSaturated_ThrowsServiceUnavailableException() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(started), 1, 1, Duration.ofSeconds(5), Duration.ofSeconds(2), meterRegistry);
+
+        callers.submit(() -> encoder.encode("first"));
+        started.await();
+        callers.submit(() -> encoder.encode("queued"));
+        waitForQueuedTask(encoder);
+
+        ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class, () -> encoder.encode("rejected"));
+        assertEquals(Duration.ofSeconds(2), exception.getRetryAfter());
+        assertEquals(1.0, meterRegistry.get("auth.password.rejected").tag("reason", "saturated").counter().count());
+    }
+
+    @Test
+    void encode_HashingExceedsTimeout_ThrowsServiceUnavailableException() {
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(new CountDownLatch(1)), 1, 1, Duration.ofMillis(50), Duration.ofSeconds(1), new SimpleMeterRegistry());
+
+        assertThrows(ServiceUnavailableException.class, () -> encoder.encode("password"));
+    }
+
+    private void waitForQueuedTask(BoundedPasswordEncoder encoder) throws InterruptedException {
+        while (encoder.queuedTasks() == 0) {
+            Thread.sleep(5);
+        }
+    }
+
+    private static class PrefixPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return "encoded:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+
+    }
+
+    private class BlockingPasswordEncoder extends PrefixPasswordEncoder {
+
+        private final CountDownLatch started;
+
+        BlockingPasswordEncoder(CountDownLatch started) {
+            this.started = started;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.encode(rawPassword);
+        }
+
+    }
+
+}
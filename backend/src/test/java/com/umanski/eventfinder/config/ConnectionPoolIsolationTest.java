@@ -0,0 +1,113 @@
+package com.umanski.eventfinder.config;
+
+import com.umanski.eventfinder.user.AuthenticationService;
+import com.umanski.eventfinder.user.UserService;
+import com.umanski.eventfinder.user.model.dto.RegisterUserDto;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.UUID;
+
+import static com.umanski.eventfinder.config.CacheConfig.USERS_CACHE;
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("IntegrationTest")
+@SpringBootTest
+@ActiveProfiles("statement-count")
+@TestPropertySource(properties = {
+        "application.datasource.pools.write.maximum-pool-size=1",
+        "application.datasource.pools.read.maximum-pool-size=1",
+        "application.datasource.pools.fail-fast.enabled=true",
+        "application.datasource.pools.fail-fast.connection-timeout=250ms"
+})
+class ConnectionPoolIsolationTest {
+
+    private static final String PASSWORD = "strongpassword123";
+
+    @Autowired
+    private AuthenticationService authenticationService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    @Qualifier("writeDataSource")
+    private HikariDataSource writeDataSource;
+
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        email = "pool-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+        cacheManager.getCache(USERS_CACHE).clear();
+    }
+
+    @Test
+    void findUserByEmail_WritePoolExhausted_ServedByReadPool() throws Exception {
+        authenticationService.register(registerUserDto());
+        cacheManager.getCache(USERS_CACHE).clear();
+
+        try (Connection ignored = writeDataSource.getConnection()) {
+            assertTrue(userService.findUserByEmail(email).isPresent());
+        }
+    }
+
+    @Test
+    void register_WritePoolExhausted_FailsFast() throws Exception {
+        try (Connection ignored = writeDataSource.getConnection()) {
+            long startedAt = System.nanoTime();
+
+            DataAccessException exception = assertThrows(DataAccessException.class, () -> authenticationService.register(registerUserDto()));
+
+            assertTrue(Duration.ofNanos(System.nanoTime() - startedAt).compareTo(Duration.ofSeconds(5)) < 0);
+            assertTrue(hasCause(exception, SQLTransientConnectionException.class));
+        }
+    }
+
+    @Test
+    void connectionPools_ExposeWaitTimeAndUsageMetrics() throws Exception {
+        userService.findUserByEmail(email);
+
+        try (Connection ignored = writeDataSource.getConnection()) {
+            assertNotNull(meterRegistry.find("hikaricp.connections.acquire").tag("pool", "write").timer());
+            assertEquals(1, meterRegistry.get("hikaricp.connections.active").tag("pool", "write").gauge().value());
+            assertNotNull(meterRegistry.find("hikaricp.connections.idle").tag("pool", "read").gauge());
+            assertNotNull(meterRegistry.find("hikaricp.connections.pending").tag("pool", "read").gauge());
+        }
+    }
+
+    private boolean hasCause(Throwable throwable, Class<? extends Throwable> type) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private RegisterUserDto registerUserDto() {
+        return RegisterUserDto.builder()
+                .email(email)
+                .firstName("John")
+                .lastName("Doe")
+                .password(PASSWORD)
+                .confirmPassword(PASSWORD)
+                .build();
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.umanski.eventfinder.config;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+@Tag("IntegrationTest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("statement-count")
+@TestPropertySource(properties = "application.security.rate-limit.ip.capacity=1")
+class ForwardedClientAddressTest {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void authenticate_BehindTrustedProxy_LimitsEachForwardedClientSeparately() throws Exception {
+        assertNotEquals(HttpStatus.TOO_MANY_REQUESTS.value(), authenticate("203.0.113.1"));
+        assertNotEquals(HttpStatus.TOO_MANY_REQUESTS.value(), authenticate("203.0.113.2"));
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), authenticate("203.0.113.1"));
+    }
+
+    private int authenticate(String clientAddress) throws IOException, InterruptedException {
+        String body = "{\"email\":\"" + UUID.randomUUID() + "@example.com\",\"password\":\"strongpassword123\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/auth/authenticate"))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header("X-Forwarded-For", clientAddress)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.umanski.eventfinder.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.umanski.eventfinder.common.exception.ErrorResponseWriter;
+import com.umanski.eventfinder.common.ratelimit.LocalTokenBucketBackend;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("UnitTest")
+class LoginRateLimitFilterTest {
+
+    private static final String AUTHENTICATE_PATH = "/api/v1/auth/authenticate";
+
+    private LoginRateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        filter = new LoginRateLimitFilter(
+                new LocalTokenBucketBackend(Duration.ofMinutes(10), 1_000),
+                objectMapper,
+                new ErrorResponseWriter(objectMapper, meterRegistry),
+                meterRegistry,
+                true,
+                5, Duration.ofMinutes(1),
+                2, Duration.ofMinutes(1),
+                DataSize.ofBytes(256)
+        );
+    }
+
+    @Test
+    void doFilter_EmailOverLimit_RejectsBeforeReachingChain() throws Exception {
+        assertEquals(200, authenticate("10.0.0.1", "john.doe@example.com").getResponse().getStatus());
+        assertEquals(200, authenticate("10.0.0.2", " John.Doe@Example.com ").getResponse().getStatus());
+
+        FilterResult rejected = authenticate("10.0.0.3", "JOHN.DOE@example.com");
+
+        assertEquals(429, rejected.getResponse().getStatus());
+        assertEquals("60", rejected.getResponse().getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(rejected.getResponse().getContentAsString().contains("\"status\":429"));
+        assertNull(rejected.getChain().getRequest());
+    }
+
+    @Test
+    void doFilter_IpOverLimit_RejectsRegardlessOfEmail() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, authenticate("10.0.0.1", "user" + i + "@example.com").getResponse().getStatus());
+        }
+
+        assertEquals(429, authenticate("10.0.0.1", "another@example.com").getResponse().getStatus());
+        assertEquals(200, authenticate("10.0.0.2", "another@example.com").getResponse().getStatus());
+    }
+
+    @Test
+    void doFilter_PermittedRequest_ReplaysBodyToChain() throws Exception {
+        FilterResult result = authenticate("10.0.0.1", "john.doe@example.com");
+
+        HttpServletRequest forwarded = (HttpServletRequest) result.getChain().getRequest();
+        String body = new String(forwarded.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        assertEquals(body("john.doe@example.com"), body);
+    }
+
+    @Test
+    void doFilter_BodyOverLimit_RejectsWithoutBufferingIt() throws Exception {
+        String oversizedEmail = "a".repeat(256) + "@example.com";
+
+        FilterResult rejected = authenticate("10.0.0.1", oversizedEmail);
+
+        assertEquals(413, rejected.getResponse().getStatus());
+        assertNull(rejected.getChain().getRequest());
+    }
+
+    @Test
+    void doFilter_BodyOverLimitWithoutContentLength_RejectsAfterLimit() throws Exception {
+        HttpServletRequest request = new HttpServletRequestWrapper(authenticateRequest("10.0.0.1", "a".repeat(256) + "@example.com")) {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(413, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void doFilter_OtherEndpoints_AreNotLimited() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/events");
+            request.setServletPath("/api/v1/events");
+            MockFilterChain chain = new MockFilterChain();
+
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+            assertNotNull(chain.getRequest());
+        }
+    }
+
+    private FilterResult authenticate(String remoteAddress, String email) throws Exception {
+        MockHttpServletRequest request = authenticateRequest(remoteAddress, email);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        return new FilterResult(response, chain);
+    }
+
+    private MockHttpServletRequest authenticateRequest(String remoteAddress, String email) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", AUTHENTICATE_PATH);
+        request.setServletPath(AUTHENTICATE_PATH);
+        request.setRemoteAddr(remoteAddress);
+        request.setContentType("application/json");
+        request.setContent(body(email).getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private String body(String email) {
+        return "{\"password\":\"strongpassword123\",\"email\":\"" + email + "\"}";
+    }
+
+    @lombok.Value
+    private static class FilterResult {
+
+        MockHttpServletResponse response;
+        MockFilterChain chain;
+
+    }
+
+}
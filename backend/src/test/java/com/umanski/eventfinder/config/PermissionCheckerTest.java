@@ -0,0 +1,86 @@
+package com.umanski.eventfinder.config;
+
+import com.umanski.eventfinder.user.model.enums.Permission;
+import com.umanski.eventfinder.user.model.enums.Role;
+import com.umanski.eventfinder.user.model.security.UserPrincipal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("UnitTest")
+class PermissionCheckerTest {
+
+    private final PermissionChecker permissionChecker = new PermissionChecker();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void has_AdminPrincipal_GrantsAdminPermissions() {
+        authenticateAs(Role.ADMIN);
+
+        assertTrue(permissionChecker.has(Permission.ADMIN_DELETE));
+        assertTrue(permissionChecker.hasAll(Role.ADMIN.getPermissionMask()));
+    }
+
+    @Test
+    void has_UserPrincipalOrAnonymous_DeniesAdminPermissions() {
+        assertFalse(permissionChecker.has(Permission.ADMIN_READ));
+
+        authenticateAs(Role.USER);
+
+        assertFalse(permissionChecker.has(Permission.ADMIN_READ));
+        assertFalse(permissionChecker.hasAll(Permission.ADMIN_READ.getMask()));
+    }
+
+    @Test
+    void has_PreAuthorizeExpression_ConvertsPermissionName() {
+        authenticateAs(Role.ADMIN);
+        StandardEvaluationContext context = new StandardEvaluationContext();
+        context.setBeanResolver((evaluationContext, beanName) -> permissionChecker);
+
+        Boolean granted = new SpelExpressionParser()
+                .parseExpression("@permissions.has('ADMIN_UPDATE')")
+                .getValue(context, Boolean.class);
+
+        assertEquals(Boolean.TRUE, granted);
+    }
+
+    @Test
+    void has_RepeatedChecks_DoNotAllocate() {
+        authenticateAs(Role.ADMIN);
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        for (int i = 0; i < 10_000; i++) {
+            permissionChecker.has(Permission.ADMIN_READ);
+        }
+
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        boolean granted = true;
+        for (int i = 0; i < 100_000; i++) {
+            granted &= permissionChecker.has(Permission.ADMIN_READ);
+        }
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        assertTrue(granted);
+        assertTrue(allocated < 64 * 1024, "Permission checks allocated " + allocated + " bytes");
+    }
+
+    private void authenticateAs(Role role) {
+        UserPrincipal principal = new UserPrincipal(UUID.randomUUID(), "john.doe@example.com", role);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.umanski.eventfinder.config;
+
+import com.umanski.eventfinder.user.AuthenticationService;
+import com.umanski.eventfinder.user.UserService;
+import com.umanski.eventfinder.user.model.dto.RegisterUserDto;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static com.umanski.eventfinder.config.CacheConfig.USERS_CACHE;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("PostgreSQL")
+@SpringBootTest
+@ActiveProfiles({"postgres", "replica"})
+class ReadReplicaRoutingTest {
+
+    private static final String PASSWORD = "strongpassword123";
+
+    private static boolean replicaMigrated;
+
+    @Autowired
+    private AuthenticationService authenticationService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    @Qualifier("writeDataSource")
+    private DataSource primaryDataSource;
+    @Autowired
+    @Qualifier("readDataSource")
+    private HikariDataSource replicaDataSource;
+
+    private JdbcTemplate primaryJdbcTemplate;
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+        migrateReplica();
+        email = "replica-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+        cacheManager.getCache(USERS_CACHE).clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        primaryJdbcTemplate.update("delete from tokens where user_id in (select id from users where email_normalized = ?)", email);
+        primaryJdbcTemplate.update("delete from users where email_normalized = ?", email);
+    }
+
+    @Test
+    void findUserByEmail_NoRecentWrite_ReadsFromReplica() {
+        primaryJdbcTemplate.update("""
+                insert into users (id, first_name, last_name, email, email_normalized, password, role,
+                                   creation_timestamp, update_timestamp)
+                values (?, 'John', 'Doe', ?, ?, 'password', 'USER', now(), now())
+                """, UUID.randomUUID(), email, email);
+
+        assertTrue(userService.findUserByEmail(email).isEmpty());
+    }
+
+    @Test
+    void findUserByEmail_WithinReadYourWritesWindow_ReadsFromPrimary() {
+        authenticationService.register(registerUserDto());
+        cacheManager.getCache(USERS_CACHE).clear();
+
+        assertTrue(userService.findUserByEmail(email).isPresent());
+    }
+
+    @Test
+    void findUserByEmail_AfterReadYourWritesWindow_ReadsFromReplicaAgain() throws InterruptedException {
+        authenticationService.register(registerUserDto());
+        cacheManager.getCache(USERS_CACHE).clear();
+        Thread.sleep(1_000);
+
+        assertFalse(userService.findUserByEmail(email).isPresent());
+    }
+
+    private void migrateReplica() {
+        if (replicaMigrated) {
+            return;
+        }
+        String replicaDatabase = replicaDataSource.getJdbcUrl().substring(replicaDataSource.getJdbcUrl().lastIndexOf('/') + 1);
+        if (primaryJdbcTemplate.queryForList("select 1 from pg_database where datname = ?", replicaDatabase).isEmpty()) {
+            primaryJdbcTemplate.execute("create database " + replicaDatabase);
+        }
+        Flyway.configure()
+                .dataSource(replicaDataSource.getJdbcUrl(), replicaDataSource.getUsername(), replicaDataSource.getPassword())
+                .load()
+                .migrate();
+        replicaMigrated = true;
+    }
+
+    private RegisterUserDto registerUserDto() {
+        return RegisterUserDto.builder()
+                .email(email)
+                .firstName("John")
+                .lastName("Doe")
+                .password(PASSWORD)
+                .confirmPassword(PASSWORD)
+                .build();
+    }
+
+}
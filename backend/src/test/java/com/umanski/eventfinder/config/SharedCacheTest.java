@@ -0,0 +1,154 @@
+package com.umanski.eventfinder.config;
+
+import com.umanski.eventfinder.EventFinderApplication;
+import com.umanski.eventfinder.common.cache.SharedCacheStore;
+import com.umanski.eventfinder.common.cache.TwoLevelCache;
+import com.umanski.eventfinder.user.AuthenticationService;
+import com.umanski.eventfinder.user.UserService;
+import com.umanski.eventfinder.user.exception.AuthenticationValidationException;
+import com.umanski.eventfinder.user.model.dto.AuthenticateUserDto;
+import com.umanski.eventfinder.user.model.dto.RegisterUserDto;
+import com.umanski.eventfinder.user.model.entity.User;
+import com.umanski.eventfinder.user.model.security.UserPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+import static com.umanski.eventfinder.config.CacheConfig.PRINCIPALS_CACHE;
+import static com.umanski.eventfinder.config.CacheConfig.USERS_CACHE;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("IntegrationTest")
+@SpringBootTest
+@ActiveProfiles("statement-count")
+@TestPropertySource(properties = "application.cache.shared.enabled=true")
+class SharedCacheTest {
+
+    private static final String PASSWORD = "strongpassword123";
+    private static final String NEW_PASSWORD = "newstrongpassword456";
+
+    @Autowired
+    private AuthenticationService authenticationService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private SharedCacheStore sharedCacheStore;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        email = "shared-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+        cacheManager.getCache(USERS_CACHE).clear();
+        cacheManager.getCache(PRINCIPALS_CACHE).clear();
+    }
+
+    @Test
+    void findPrincipalByEmail_LocalMiss_IsServedFromSharedTier() {
+        authenticationService.register(registerUserDto());
+        UserPrincipal principal = userService.findPrincipalByEmail(email).orElseThrow();
+        TwoLevelCache principalsCache = (TwoLevelCache) cacheManager.getCache(PRINCIPALS_CACHE);
+        assertTrue(sharedCacheStore.get(PRINCIPALS_CACHE + ":" + email).isPresent());
+
+        principalsCache.getNativeCache().invalidateAll();
+        UserPrincipal cachedPrincipal = userService.findPrincipalByEmail(email).orElseThrow();
+
+        assertEquals(principal, cachedPrincipal);
+        assertEquals(1.0, meterRegistry.get("cache.shared.gets").tag("result", "hit").counter().count());
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", PRINCIPALS_CACHE).functionCounter());
+    }
+
+    @Test
+    void findUserByEmail_CredentialBearingUser_IsNotWrittenToSharedTier() {
+        authenticationService.register(registerUserDto());
+
+        User user = userService.findUserByEmail(email).orElseThrow();
+        userService.findPrincipalByEmail(email).orElseThrow();
+
+        assertTrue(sharedCacheStore.getByPrefix(USERS_CACHE + ":").isEmpty());
+        String sharedPrincipal = new String(sharedCacheStore.get(PRINCIPALS_CACHE + ":" + email).orElseThrow(), StandardCharsets.UTF_8);
+        assertFalse(sharedPrincipal.contains(user.getPassword()));
+    }
+
+    @Test
+    void updatePassword_EvictsSharedEntry() {
+        authenticationService.register(registerUserDto());
+        userService.findUserByEmail(email).orElseThrow();
+        userService.findPrincipalByEmail(email).orElseThrow();
+
+        userService.updatePassword(email, "{noop}changed");
+
+        assertTrue(sharedCacheStore.get(PRINCIPALS_CACHE + ":" + email).isEmpty());
+        assertEquals("{noop}changed", userService.findUserByEmail(email).orElseThrow().getPassword());
+    }
+
+    @Test
+    void updatePassword_OnOneNode_RejectsOldPasswordOnOtherNode() {
+        authenticationService.register(registerUserDto());
+
+        try (ConfigurableApplicationContext otherNode = startOtherNode()) {
+            AuthenticationService otherNodeAuthenticationService = otherNode.getBean(AuthenticationService.class);
+            otherNodeAuthenticationService.authenticate(authenticateUserDto(PASSWORD));
+
+            userService.updatePassword(email, passwordEncoder.encode(NEW_PASSWORD));
+
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThrows(AuthenticationValidationException.class,
+                    () -> otherNodeAuthenticationService.authenticate(authenticateUserDto(PASSWORD))));
+            assertNotNull(otherNodeAuthenticationService.authenticate(authenticateUserDto(NEW_PASSWORD)).getAccessToken());
+        }
+    }
+
+    private ConfigurableApplicationContext startOtherNode() {
+        return new SpringApplicationBuilder(EventFinderApplication.class)
+                .profiles("statement-count")
+                .initializers(context -> ((GenericApplicationContext) context).registerBean("clusterSharedCacheStore",
+                        SharedCacheStore.class, () -> sharedCacheStore, definition -> {
+                            definition.setPrimary(true);
+                            ((AbstractBeanDefinition) definition).setDestroyMethodName("");
+                        }))
+                .run("--server.port=0",
+                        "--spring.jpa.hibernate.ddl-auto=none",
+                        "--spring.jpa.properties.hibernate.hbm2ddl.auto=none",
+                        "--application.cache.shared.enabled=true");
+    }
+
+    private AuthenticateUserDto authenticateUserDto(String password) {
+        return AuthenticateUserDto.builder()
+                .email(email)
+                .password(password)
+                .build();
+    }
+
+    private RegisterUserDto registerUserDto() {
+        return RegisterUserDto.builder()
+                .email(email)
+                .firstName("John")
+                .lastName("Doe")
+                .password(PASSWORD)
+                .confirmPassword(PASSWORD)
+                .build();
+    }
+
+}
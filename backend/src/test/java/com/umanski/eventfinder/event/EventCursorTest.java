@@ -0,0 +1,45 @@
+package com.umanski.eventfinder.event;
+
+import com.umanski.eventfinder.common.exception.ValidationException;
+import com.umanski.eventfinder.event.exception.InvalidCursorException;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("UnitTest")
+class EventCursorTest {
+
+    @Test
+    void decode_EncodedCursor_ReturnsSamePosition() {
+        EventCursor cursor = new EventCursor(Instant.parse("2026-06-01T18:30:00.123456789Z"), UUID.randomUUID());
+
+        EventCursor decodedCursor = EventCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decodedCursor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "AAAA", ""})
+    void decode_MalformedCursor_ThrowsInvalidCursorException(String cursor) {
+        InvalidCursorException exception = assertThrows(InvalidCursorException.class, () -> EventCursor.decode(cursor));
+
+        assertInstanceOf(ValidationException.class, exception);
+    }
+
+    @Test
+    void decode_TamperedCursor_ThrowsInvalidCursorException() {
+        byte[] bytes = Base64.getUrlDecoder().decode(new EventCursor(Instant.now(), UUID.randomUUID()).encode());
+        bytes[0] = Byte.MAX_VALUE;
+        String tamperedCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        assertThrows(InvalidCursorException.class, () -> EventCursor.decode(tamperedCursor));
+    }
+
+}
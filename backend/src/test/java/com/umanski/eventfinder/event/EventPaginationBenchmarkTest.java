@@ -0,0 +1,138 @@
+package com.umanski.eventfinder.event;
+
+import com.umanski.eventfinder.config.CacheConfig;
+import com.umanski.eventfinder.event.model.entity.Event;
+import com.umanski.eventfinder.user.model.entity.User;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@DataJpaTest
+@Tag("Benchmark")
+@Import(CacheConfig.class)
+@ActiveProfiles("benchmark")
+class EventPaginationBenchmarkTest {
+
+    private static final int EVENTS = 200_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int[] PAGE_NUMBERS = {1, 100, 1_000, 5_000, 9_000};
+    private static final int WARMUP_RUNS = 20;
+    private static final int MEASURED_RUNS = 50;
+
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        User organizer = entityManager.persistAndFlush(User.builder()
+                .email("organizer@example.com")
+                .firstName("John")
+                .lastName("Doe")
+                .password("password")
+                .build());
+        seedEvents(organizer);
+    }
+
+    @Test
+    void keysetPagination_DeepPages_LatencyStaysFlat() {
+        Map<Integer, Long> keysetLatencies = new LinkedHashMap<>();
+        Map<Integer, Long> offsetLatencies = new LinkedHashMap<>();
+
+        for (int pageNumber : PAGE_NUMBERS) {
+            int offset = (pageNumber - 1) * PAGE_SIZE;
+            EventCursor previousRow = jdbcTemplate.queryForObject(
+                    "select start_time, id from events order by start_time, id offset ? rows fetch next 1 rows only",
+                    (rs, rowNum) -> new EventCursor(rs.getObject("start_time", OffsetDateTime.class).toInstant(), rs.getObject("id", UUID.class)),
+                    offset);
+            Instant startTime = previousRow.getStartTime();
+            UUID id = previousRow.getId();
+
+            keysetLatencies.put(pageNumber, medianNanos(() ->
+                    eventRepository.findEventsAfter(startTime, id, Limit.of(PAGE_SIZE))));
+            offsetLatencies.put(pageNumber, medianNanos(() -> entityManager.getEntityManager()
+                    .createQuery("select e from Event e order by e.startTime, e.id", Event.class)
+                    .setFirstResult(offset + 1)
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList()));
+        }
+
+        keysetLatencies.forEach((pageNumber, keysetNanos) -> log.info("page {}: keyset {} us, offset {} us",
+                pageNumber, keysetNanos / 1_000, offsetLatencies.get(pageNumber) / 1_000));
+
+        long firstPage = keysetLatencies.get(PAGE_NUMBERS[0]);
+        long deepestPage = keysetLatencies.get(PAGE_NUMBERS[PAGE_NUMBERS.length - 1]);
+        assertTrue(deepestPage <= Math.max(3 * firstPage, firstPage + 1_000_000),
+                "Keyset page latency grew from " + firstPage + " ns to " + deepestPage + " ns");
+    }
+
+    @Test
+    void keysetPagination_WalkingAllPages_VisitsEveryEventOnce() {
+        Set<UUID> visited = new HashSet<>();
+        List<Event> page = eventRepository.findEventsStartingFrom(Instant.EPOCH, Limit.of(1_000));
+        while (!page.isEmpty()) {
+            page.forEach(event -> assertTrue(visited.add(event.getId())));
+            Event last = page.getLast();
+            entityManager.clear();
+            page = eventRepository.findEventsAfter(last.getStartTime(), last.getId(), Limit.of(1_000));
+        }
+        assertEquals(EVENTS, visited.size());
+    }
+
+    private long medianNanos(Supplier<List<Event>> query) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            query.get();
+            entityManager.clear();
+        }
+        long[] samples = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            assertEquals(PAGE_SIZE, query.get().size());
+            samples[i] = System.nanoTime() - start;
+            entityManager.clear();
+        }
+        Arrays.sort(samples);
+        return samples[MEASURED_RUNS / 2];
+    }
+
+    private void seedEvents(User organizer) {
+        Random random = new Random(42);
+        Instant base = Instant.parse("2030-01-01T00:00:00Z");
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            Instant startTime = base.plus(random.nextInt(365 * 24 * 4) * 15L, ChronoUnit.MINUTES);
+            rows.add(new Object[]{
+                    UUID.randomUUID(), "Event " + i, random.nextDouble() * 180 - 90, random.nextDouble() * 360 - 180,
+                    Timestamp.from(startTime), Timestamp.from(startTime.plus(2, ChronoUnit.HOURS)), organizer.getId(), now, now
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into events (id, title, latitude, longitude, start_time, end_time, organizer_id, creation_timestamp, update_timestamp)
+                values (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+
+}
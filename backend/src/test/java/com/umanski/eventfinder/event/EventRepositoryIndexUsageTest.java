@@ -0,0 +1,85 @@
+package com.umanski.eventfinder.event;
+
+import com.umanski.eventfinder.common.persistence.IndexScanAssertions;
+import com.umanski.eventfinder.config.CacheConfig;
+import com.umanski.eventfinder.event.model.entity.Event;
+import com.umanski.eventfinder.user.model.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+@DataJpaTest
+@Tag("PostgreSQL")
+@Import(CacheConfig.class)
+@ActiveProfiles("postgres")
+class EventRepositoryIndexUsageTest {
+
+    private static final String EVENTS = "events";
+    private static final double LATITUDE = 52.2297;
+    private static final double LONGITUDE = 21.0122;
+
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private IndexScanAssertions indexScanAssertions;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        indexScanAssertions = new IndexScanAssertions(jdbcTemplate, entityManager.getEntityManager());
+        User organizer = entityManager.persist(User.builder()
+                .email("organizer@example.com")
+                .firstName("John")
+                .lastName("Doe")
+                .password("password")
+                .build());
+        Instant startTime = Instant.now().plus(1, ChronoUnit.DAYS);
+        event = entityManager.persist(Event.builder()
+                .title("Open-air concert")
+                .latitude(LATITUDE)
+                .longitude(LONGITUDE)
+                .startTime(startTime)
+                .endTime(startTime.plus(2, ChronoUnit.HOURS))
+                .organizer(organizer)
+                .build());
+        indexScanAssertions.disableSequentialScans();
+    }
+
+    @Test
+    void eventRepository_EveryQueryUsesIndex() {
+        Instant from = Instant.now();
+        Instant to = from.plus(30, ChronoUnit.DAYS);
+        GeoBoundingBox nearby = GeoBoundingBox.around(LATITUDE, LONGITUDE, 5_000);
+        GeoBoundingBox acrossAntimeridian = GeoBoundingBox.of(-10, 170, 10, -170);
+
+        indexScanAssertions.assertIndexScan(EVENTS, () -> eventRepository.findById(event.getId()));
+        indexScanAssertions.assertIndexScan(EVENTS, () -> eventRepository.findEventsStartingFrom(from, Limit.of(20)));
+        indexScanAssertions.assertIndexScan(EVENTS, () -> eventRepository.findEventsAfter(event.getStartTime(), event.getId(), Limit.of(20)));
+        indexScanAssertions.assertIndexScan(EVENTS, () -> eventRepository.findEventsNearby(
+                LATITUDE, LONGITUDE, 5_000,
+                nearby.getMinLatitude(), nearby.getMaxLatitude(),
+                nearby.getWestMinLongitude(), nearby.getWestMaxLongitude(),
+                nearby.getEastMinLongitude(), nearby.getEastMaxLongitude(),
+                from, to, 20));
+        indexScanAssertions.assertIndexScan(EVENTS, () -> eventRepository.findEventsWithin(
+                acrossAntimeridian.getMinLatitude(), acrossAntimeridian.getMaxLatitude(),
+                acrossAntimeridian.getWestMinLongitude(), acrossAntimeridian.getWestMaxLongitude(),
+                acrossAntimeridian.getEastMinLongitude(), acrossAntimeridian.getEastMaxLongitude(),
+                from, to, 20));
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.umanski.eventfinder.event;
+
+import com.umanski.eventfinder.common.persistence.SqlStatementCounter;
+import com.umanski.eventfinder.common.persistence.SqlStatementCounterConfig;
+import com.umanski.eventfinder.event.model.dto.CreateEventDto;
+import com.umanski.eventfinder.event.model.dto.EventDto;
+import com.umanski.eventfinder.event.model.dto.EventListingDto;
+import com.umanski.eventfinder.event.model.dto.EventPageDto;
+import com.umanski.eventfinder.event.model.entity.Event;
+import com.umanski.eventfinder.user.AuthenticationService;
+import com.umanski.eventfinder.user.UserService;
+import com.umanski.eventfinder.user.model.dto.RegisterUserDto;
+import com.umanski.eventfinder.user.model.entity.User;
+import com.umanski.eventfinder.user.model.security.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@Tag("IntegrationTest")
+@SpringBootTest
+@ActiveProfiles("statement-count")
+@Import(SqlStatementCounterConfig.class)
+class EventServiceStatementCountTest {
+
+    private static final int EVENTS = 5;
+
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private AuthenticationService authenticationService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    private UserPrincipal organizer;
+    private Instant from;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAllInBatch();
+        organizer = registerOrganizer();
+        from = Instant.now().plus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS);
+        sqlStatementCounter.reset();
+    }
+
+    @Test
+    void createEvent_UsesOrganizerReferenceWithoutLoadingUser() {
+        eventService.createEvent(organizer, createEventDto(from));
+
+        sqlStatementCounter.assertStatementCount(0, 1, 0, 0);
+    }
+
+    @Test
+    void getEvent_DoesNotInitializeOrganizer() {
+        EventDto event = eventService.createEvent(organizer, createEventDto(from));
+        sqlStatementCounter.reset();
+
+        EventDto found = eventService.getEvent(event.getId());
+
+        assertEquals(organizer.getId(), found.getOrganizerId());
+        sqlStatementCounter.assertStatementCount(1, 0, 0, 0);
+    }
+
+    @Test
+    void listEvents_EveryPageIssuesSingleSelect() {
+        IntStream.range(0, EVENTS).forEach(i -> eventService.createEvent(organizer, createEventDto(from.plusSeconds(i))));
+        EventListingDto listingDto = new EventListingDto();
+        listingDto.setFrom(from);
+        listingDto.setLimit(EVENTS - 2);
+        sqlStatementCounter.reset();
+
+        EventPageDto firstPage = eventService.listEvents(listingDto);
+
+        assertEquals(EVENTS - 2, firstPage.getEvents().size());
+        assertNotNull(firstPage.getNextCursor());
+        sqlStatementCounter.assertStatementCount(1, 0, 0, 0);
+
+        listingDto.setCursor(firstPage.getNextCursor());
+        sqlStatementCounter.reset();
+
+        EventPageDto secondPage = eventService.listEvents(listingDto);
+
+        assertEquals(2, secondPage.getEvents().size());
+        sqlStatementCounter.assertStatementCount(1, 0, 0, 0);
+    }
+
+    @Test
+    void saveAll_InsertsAreSentAsSingleBatch() {
+        User organizerReference = userService.getUserReference(organizer.getId());
+        List<Event> events = IntStream.range(0, EVENTS)
+                .mapToObj(i -> event(organizerReference, from.plusSeconds(i)))
+                .toList();
+
+        transactionTemplate.executeWithoutResult(status -> eventRepository.saveAll(events));
+
+        sqlStatementCounter.assertStatementCount(0, 1, 0, 0);
+    }
+
+    private UserPrincipal registerOrganizer() {
+        String email = "organizer-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+        authenticationService.register(RegisterUserDto.builder()
+                .email(email)
+                .firstName("John")
+                .lastName("Doe")
+                .password("strongpassword123")
+                .confirmPassword("strongpassword123")
+                .build());
+        return userService.findUserByEmail(email)
+                .map(UserPrincipal::from)
+                .orElseThrow();
+    }
+
+    private Event event(User organizer, Instant startTime) {
+        return Event.builder()
+                .title("Open-air concert")
+                .latitude(52.2297)
+                .longitude(21.0122)
+                .startTime(startTime)
+                .endTime(startTime.plus(2, ChronoUnit.HOURS))
+                .organizer(organizer)
+                .build();
+    }
+
+    private CreateEventDto createEventDto(Instant startTime) {
+        return CreateEventDto.builder()
+                .title("Open-air concert")
+                .description("Evening concert in the park")
+                .latitude(52.2297)
+                .longitude(21.0122)
+                .startTime(startTime)
+                .endTime(startTime.plus(2, ChronoUnit.HOURS))
+                .build();
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.umanski.eventfinder.event;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("UnitTest")
+class GeoBoundingBoxTest {
+
+    @Test
+    void around_RadiusInsideSingleHemisphere_ReturnsSingleBoxContainingRadius() {
+        GeoBoundingBox boundingBox = GeoBoundingBox.around(50.0614, 19.9366, 10_000);
+
+        assertEquals(boundingBox.getWestMinLongitude(), boundingBox.getEastMinLongitude());
+        assertEquals(boundingBox.getWestMaxLongitude(), boundingBox.getEastMaxLongitude());
+        assertEquals(10_000, GeoBoundingBox.distanceMeters(50.0614, 19.9366, boundingBox.getMaxLatitude(), 19.9366), 1.0);
+        assertTrue(GeoBoundingBox.distanceMeters(50.0614, 19.9366, 50.0614, boundingBox.getWestMinLongitude()) >= 10_000);
+    }
+
+    @Test
+    void around_RadiusCrossingAntimeridian_SplitsIntoWesternAndEasternBoxes() {
+        GeoBoundingBox boundingBox = GeoBoundingBox.around(-17.7, 179.95, 20_000);
+
+        assertTrue(boundingBox.getWestMinLongitude() > 179.0);
+        assertEquals(180.0, boundingBox.getWestMaxLongitude());
+        assertEquals(-180.0, boundingBox.getEastMinLongitude());
+        assertTrue(boundingBox.getEastMaxLongitude() < -179.0);
+    }
+
+    @Test
+    void around_RadiusReachingPole_CoversAllLongitudes() {
+        GeoBoundingBox boundingBox = GeoBoundingBox.around(89.95, 0.0, 20_000);
+
+        assertEquals(90.0, boundingBox.getMaxLatitude());
+        assertEquals(-180.0, boundingBox.getWestMinLongitude());
+        assertEquals(180.0, boundingBox.getWestMaxLongitude());
+    }
+
+}
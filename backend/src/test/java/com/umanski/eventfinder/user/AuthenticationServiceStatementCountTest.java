@@ -0,0 +1,134 @@
+package com.umanski.eventfinder.user;
+
+import com.umanski.eventfinder.common.persistence.SqlStatementCounter;
+import com.umanski.eventfinder.common.persistence.SqlStatementCounterConfig;
+import com.umanski.eventfinder.user.model.dto.AuthenticateUserDto;
+import com.umanski.eventfinder.user.model.dto.AuthenticationResponse;
+import com.umanski.eventfinder.user.model.dto.RefreshTokenOperationsDto;
+import com.umanski.eventfinder.user.model.dto.RegisterUserDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static com.umanski.eventfinder.config.CacheConfig.USERS_CACHE;
+
+@Tag("IntegrationTest")
+@SpringBootTest
+@ActiveProfiles("statement-count")
+@Import(SqlStatementCounterConfig.class)
+class AuthenticationServiceStatementCountTest {
+
+    private static final String PASSWORD = "strongpassword123";
+
+    @Autowired
+    private AuthenticationService authenticationService;
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+    @Autowired
+    private CacheManager cacheManager;
+
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        email = "user-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+        cacheManager.getCache(USERS_CACHE).clear();
+        sqlStatementCounter.reset();
+    }
+
+    @Test
+    void register_NewUser_ChecksEmailInsertsUserAndRotatesRefreshToken() {
+        authenticationService.register(registerUserDto());
+
+        sqlStatementCounter.assertStatementCount(2, 2, 1, 0);
+    }
+
+    @Test
+    void authenticate_ColdUserCache_LoadsUserOnce() {
+        authenticationService.register(registerUserDto());
+        cacheManager.getCache(USERS_CACHE).clear();
+        sqlStatementCounter.reset();
+
+        authenticationService.authenticate(authenticateUserDto());
+
+        sqlStatementCounter.assertStatementCount(2, 1, 1, 0);
+    }
+
+    @Test
+    void authenticate_WarmUserCache_SkipsUserLookup() {
+        authenticationService.register(registerUserDto());
+        authenticationService.authenticate(authenticateUserDto());
+        sqlStatementCounter.reset();
+
+        authenticationService.authenticate(authenticateUserDto());
+
+        sqlStatementCounter.assertStatementCount(1, 1, 1, 0);
+    }
+
+    @Test
+    void authenticate_DifferentlyCasedEmail_SharesUserCacheEntry() {
+        authenticationService.register(registerUserDto());
+        authenticationService.authenticate(authenticateUserDto());
+        sqlStatementCounter.reset();
+
+        authenticationService.authenticate(AuthenticateUserDto.builder()
+                .email(" " + email.toUpperCase() + " ")
+                .password(PASSWORD)
+                .build());
+
+        sqlStatementCounter.assertStatementCount(1, 1, 1, 0);
+    }
+
+    @Test
+    void refreshToken_ColdUserCache_LoadsUserOnceAndRotatesRefreshToken() {
+        AuthenticationResponse response = authenticationService.register(registerUserDto());
+        cacheManager.getCache(USERS_CACHE).clear();
+        sqlStatementCounter.reset();
+
+        authenticationService.refreshToken(refreshTokenOperationsDto(response.getRefreshToken()));
+
+        sqlStatementCounter.assertStatementCount(3, 1, 1, 0);
+    }
+
+    @Test
+    void logout_WarmUserCache_ConfirmsTokenAndRevokesItWithSingleUpdate() {
+        authenticationService.register(registerUserDto());
+        AuthenticationResponse response = authenticationService.authenticate(authenticateUserDto());
+        sqlStatementCounter.reset();
+
+        authenticationService.logout(refreshTokenOperationsDto(response.getRefreshToken()));
+
+        sqlStatementCounter.assertStatementCount(1, 0, 1, 0);
+    }
+
+    private RegisterUserDto registerUserDto() {
+        return RegisterUserDto.builder()
+                .email(email)
+                .firstName("John")
+                .lastName("Doe")
+                .password(PASSWORD)
+                .confirmPassword(PASSWORD)
+                .build();
+    }
+
+    private AuthenticateUserDto authenticateUserDto() {
+        return AuthenticateUserDto.builder()
+                .email(email)
+                .password(PASSWORD)
+                .build();
+    }
+
+    private RefreshTokenOperationsDto refreshTokenOperationsDto(String refreshToken) {
+        RefreshTokenOperationsDto refreshTokenOperationsDto = new RefreshTokenOperationsDto();
+        refreshTokenOperationsDto.setRefreshToken(refreshToken);
+        return refreshTokenOperationsDto;
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.umanski.eventfinder.user;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@Tag("UnitTest")
+@ExtendWith(MockitoExtension.class)
+class ExpiredTokenReaperBatchingTest {
+
+    private static final int BATCH_SIZE = 100;
+
+    @Mock
+    private TokenRepository tokenRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void reapExpiredTokens_ShortBatch_StopsWithSameCutoffForEveryBatch() {
+        when(tokenRepository.deleteExpiredTokens(any(), eq(BATCH_SIZE))).thenReturn(BATCH_SIZE, BATCH_SIZE, 40);
+
+        reaper(10).reapExpiredTokens();
+
+        ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+        verify(tokenRepository, times(3)).deleteExpiredTokens(cutoff.capture(), eq(BATCH_SIZE));
+        assertEquals(1, cutoff.getAllValues().stream().distinct().count());
+        assertEquals(240, meterRegistry.get("tokens.reaper.reclaimed").counter().count());
+        assertEquals(240, meterRegistry.get("tokens.reaper.reclaimed.per.run").summary().totalAmount());
+    }
+
+    @Test
+    void reapExpiredTokens_OnlyFullBatches_StopsAtMaxBatchesPerRun() {
+        when(tokenRepository.deleteExpiredTokens(any(), eq(BATCH_SIZE))).thenReturn(BATCH_SIZE);
+
+        reaper(3).reapExpiredTokens();
+
+        verify(tokenRepository, times(3)).deleteExpiredTokens(any(), eq(BATCH_SIZE));
+        assertEquals(300, meterRegistry.get("tokens.reaper.reclaimed.per.run").summary().totalAmount());
+    }
+
+    @Test
+    void reapExpiredTokens_NothingExpired_RunsSingleBatch() {
+        reaper(10).reapExpiredTokens();
+
+        verify(tokenRepository, times(1)).deleteExpiredTokens(any(), eq(BATCH_SIZE));
+        assertEquals(1, meterRegistry.get("tokens.reaper.reclaimed.per.run").summary().count());
+        assertEquals(0, meterRegistry.get("tokens.reaper.reclaimed.per.run").summary().totalAmount());
+    }
+
+    @Test
+    void reapExpiredTokens_InterruptedWhilePausing_StopsAndKeepsInterruptFlag() {
+        when(tokenRepository.deleteExpiredTokens(any(), eq(BATCH_SIZE))).thenReturn(BATCH_SIZE);
+
+        try {
+            Thread.currentThread().interrupt();
+            reaper(10).reapExpiredTokens();
+
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+
+        verify(tokenRepository, times(1)).deleteExpiredTokens(any(), eq(BATCH_SIZE));
+    }
+
+    private ExpiredTokenReaper reaper(int maxBatchesPerRun) {
+        return new ExpiredTokenReaper(tokenRepository, meterRegistry, BATCH_SIZE, maxBatchesPerRun, Duration.ofMillis(1));
+    }
+
+}
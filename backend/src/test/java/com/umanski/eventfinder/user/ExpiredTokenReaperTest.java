@@ -0,0 +1,95 @@
+package com.umanski.eventfinder.user;
+
+import com.umanski.eventfinder.common.util.TokenDigest;
+import com.umanski.eventfinder.config.CacheConfig;
+import com.umanski.eventfinder.user.model.entity.Token;
+import com.umanski.eventfinder.user.model.entity.User;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Tag("PostgreSQL")
+@Import(CacheConfig.class)
+@ActiveProfiles("postgres")
+class ExpiredTokenReaperTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final Duration PAUSE_BETWEEN_BATCHES = Duration.ofMillis(50);
+
+    @Autowired
+    private TokenRepository tokenRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        user = entityManager.persist(User.builder()
+                .email("john.doe@example.com")
+                .firstName("John")
+                .lastName("Doe")
+                .password("password")
+                .build());
+    }
+
+    @Test
+    void reapExpiredTokens_DeletesExpiredTokensInBatchesUntilShortBatch() {
+        persistTokens(5, Instant.now().minus(1, ChronoUnit.DAYS));
+        persistTokens(1, Instant.now().plus(1, ChronoUnit.DAYS));
+
+        reaper(10).reapExpiredTokens();
+
+        assertEquals(1, tokenRepository.count());
+        assertEquals(5, meterRegistry.get("tokens.reaper.reclaimed").counter().count());
+        DistributionSummary reclaimedPerRun = meterRegistry.get("tokens.reaper.reclaimed.per.run").summary();
+        assertEquals(1, reclaimedPerRun.count());
+        assertEquals(5, reclaimedPerRun.totalAmount());
+        assertTrue(meterRegistry.get("tokens.reaper.run").timer().totalTime(TimeUnit.MILLISECONDS) >= 2 * PAUSE_BETWEEN_BATCHES.toMillis());
+    }
+
+    @Test
+    void reapExpiredTokens_StopsAfterMaxBatchesPerRun() {
+        persistTokens(5, Instant.now().minus(1, ChronoUnit.DAYS));
+
+        reaper(2).reapExpiredTokens();
+
+        assertEquals(1, tokenRepository.count());
+        assertEquals(4, meterRegistry.get("tokens.reaper.reclaimed.per.run").summary().totalAmount());
+    }
+
+    private ExpiredTokenReaper reaper(int maxBatchesPerRun) {
+        return new ExpiredTokenReaper(tokenRepository, meterRegistry, BATCH_SIZE, maxBatchesPerRun, PAUSE_BETWEEN_BATCHES);
+    }
+
+    private void persistTokens(int count, Instant expirationDate) {
+        for (int i = 0; i < count; i++) {
+            entityManager.persist(Token.builder()
+                    .user(user)
+                    .tokenHash(TokenDigest.sha256("token-" + UUID.randomUUID()))
+                    .jti(UUID.randomUUID().toString())
+                    .expirationDate(expirationDate)
+                    .build());
+        }
+        entityManager.flush();
+    }
+
+}
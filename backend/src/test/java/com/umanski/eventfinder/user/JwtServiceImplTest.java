@@ -0,0 +1,155 @@
+package com.umanski.eventfinder.user;
+
+import com.umanski.eventfinder.config.ReadYourWritesWindow;
+import com.umanski.eventfinder.user.model.entity.User;
+import com.umanski.eventfinder.user.model.enums.Role;
+import com.umanski.eventfinder.user.model.security.UserPrincipal;
+import com.umanski.eventfinder.user.model.security.VerifiedToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@Tag("UnitTest")
+@ExtendWith(MockitoExtension.class)
+class JwtServiceImplTest {
+
+    private static final String SECRET_KEY = "c2VjcmV0LWtleS11c2VkLW9ubHktaW4tdW5pdC10ZXN0cy0xMjM0NTY3ODkw";
+
+    @Mock
+    private TokenRepository tokenRepository;
+    @Mock
+    private UserService userService;
+
+    private TokenRevocationIndex revocationIndex;
+    private JwtServiceImpl jwtService;
+
+    @BeforeEach
+    void setUp() {
+        revocationIndex = new TokenRevocationIndex(1_000, 0.01, new SimpleMeterRegistry());
+        RefreshTokenWriteBehind refreshTokenWriteBehind = new RefreshTokenWriteBehind(tokenRepository, revocationIndex,
+                TransactionOperations.withoutTransaction(), new SimpleMeterRegistry(), false, 500, 10_000, true,
+                5, Duration.ofMillis(500), Duration.ofMillis(200));
+        jwtService = new JwtServiceImpl(tokenRepository, userService, revocationIndex, refreshTokenWriteBehind,
+                new ReadYourWritesWindow(false, Duration.ZERO, 0), TransactionOperations.withoutTransaction(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtService, "jwtAccessTokenExpiration", 60_000L);
+        ReflectionTestUtils.setField(jwtService, "jwtRefreshTokenExpiration", 120_000L);
+        ReflectionTestUtils.setField(jwtService, "statelessAuthentication", true);
+        jwtService.init();
+    }
+
+    @Test
+    void extractAndValidateAccessToken_ValidAccessToken_ReturnsVerifiedToken() {
+        String accessToken = jwtService.generateAccessToken(mockUser());
+
+        Optional<VerifiedToken> verifiedToken = jwtService.extractAndValidateAccessToken(requestWithBearer(accessToken));
+
+        assertTrue(verifiedToken.isPresent());
+        assertEquals("john.doe@example.com", verifiedToken.get().getSubject());
+        assertEquals(accessToken, verifiedToken.get().getToken());
+        assertNotNull(verifiedToken.get().getJti());
+        assertNotNull(verifiedToken.get().getExpiration());
+    }
+
+    @Test
+    void extractAndValidateAccessToken_RefreshToken_ReturnsEmpty() {
+        String refreshToken = jwtService.generateRefreshToken(mockUser());
+
+        assertTrue(jwtService.extractAndValidateAccessToken(requestWithBearer(refreshToken)).isEmpty());
+    }
+
+    @Test
+    void extractAndValidateAccessToken_TamperedToken_ReturnsEmpty() {
+        String accessToken = jwtService.generateAccessToken(mockUser());
+
+        assertTrue(jwtService.extractAndValidateAccessToken(requestWithBearer(accessToken + "x")).isEmpty());
+    }
+
+    @Test
+    void authenticateUser_StatelessMode_BuildsPrincipalFromClaimsWithoutUserLookup() {
+        User user = mockUser();
+        MockHttpServletRequest request = requestWithBearer(jwtService.generateAccessToken(user));
+        VerifiedToken accessToken = jwtService.extractAndValidateAccessToken(request).orElseThrow();
+
+        try {
+            jwtService.authenticateUser(accessToken, request);
+
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+            assertEquals(user.getId(), principal.getId());
+            assertEquals(Role.USER, principal.getRole());
+            assertEquals("john.doe@example.com", authentication.getName());
+            verifyNoInteractions(userService, tokenRepository);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    void isRefreshTokenValid_RevokedToken_ReturnsFalse() {
+        User user = mockUser();
+        VerifiedToken refreshToken = jwtService.verifyToken(jwtService.generateRefreshToken(user));
+
+        assertTrue(jwtService.isRefreshTokenValid(refreshToken, user));
+
+        jwtService.revokeToken(refreshToken);
+
+        assertFalse(jwtService.isRefreshTokenValid(refreshToken, user));
+    }
+
+    @Test
+    void isRefreshTokenValid_RevokedByAnotherInstance_ReturnsFalseAndIndexesRevocation() {
+        User user = mockUser();
+        VerifiedToken refreshToken = jwtService.verifyToken(jwtService.generateRefreshToken(user));
+        when(tokenRepository.existsByJtiAndRevokedTrue(refreshToken.getJti())).thenReturn(true);
+
+        assertFalse(jwtService.isRefreshTokenValid(refreshToken, user));
+        assertTrue(revocationIndex.isRevoked(refreshToken.getJti()));
+
+        assertFalse(jwtService.isRefreshTokenValid(refreshToken, user));
+        verify(tokenRepository, times(1)).existsByJtiAndRevokedTrue(refreshToken.getJti());
+    }
+
+    @Test
+    void verifyToken_ExpiredToken_ThrowsBadCredentialsException() {
+        ReflectionTestUtils.setField(jwtService, "jwtAccessTokenExpiration", -1_000L);
+        String accessToken = jwtService.generateAccessToken(mockUser());
+
+        assertThrows(BadCredentialsException.class, () -> jwtService.verifyToken(accessToken));
+    }
+
+    private MockHttpServletRequest requestWithBearer(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        return request;
+    }
+
+    private User mockUser() {
+        return User.builder()
+                .id(UUID.randomUUID())
+                .email("john.doe@example.com")
+                .firstName("John")
+                .lastName("Doe")
+                .password("password")
+                .build();
+    }
+
+}
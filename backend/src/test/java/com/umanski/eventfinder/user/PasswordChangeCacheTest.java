@@ -0,0 +1,91 @@
+package com.umanski.eventfinder.user;
+
+import com.umanski.eventfinder.user.exception.AuthenticationValidationException;
+import com.umanski.eventfinder.user.model.dto.AuthenticateUserDto;
+import com.umanski.eventfinder.user.model.dto.ChangePasswordDto;
+import com.umanski.eventfinder.user.model.dto.RegisterUserDto;
+import com.umanski.eventfinder.user.model.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static com.umanski.eventfinder.config.CacheConfig.USERS_CACHE;
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("IntegrationTest")
+@SpringBootTest
+@ActiveProfiles("statement-count")
+class PasswordChangeCacheTest {
+
+    private static final String PASSWORD = "strongpassword123";
+    private static final String NEW_PASSWORD = "newstrongpassword456";
+
+    @Autowired
+    private AuthenticationService authenticationService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserProfileService userProfileService;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private CacheManager cacheManager;
+
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        email = "password-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+        cacheManager.getCache(USERS_CACHE).clear();
+    }
+
+    @Test
+    void changePassword_CachedUser_NextLookupAndLoginSeeNewHash() {
+        authenticationService.register(registerUserDto());
+        User user = userService.findUserByEmail(email).orElseThrow();
+        String oldHash = user.getPassword();
+        assertNotNull(cacheManager.getCache(USERS_CACHE).get(email));
+
+        userProfileService.changePassword(user, changePasswordDto());
+
+        assertNull(cacheManager.getCache(USERS_CACHE).get(email));
+        String currentHash = userService.findUserByEmail(email).orElseThrow().getPassword();
+        assertNotEquals(oldHash, currentHash);
+        assertTrue(passwordEncoder.matches(NEW_PASSWORD, currentHash));
+        assertThrows(AuthenticationValidationException.class, () -> authenticationService.authenticate(authenticateUserDto(PASSWORD)));
+        assertNotNull(authenticationService.authenticate(authenticateUserDto(NEW_PASSWORD)).getRefreshToken());
+    }
+
+    private RegisterUserDto registerUserDto() {
+        return RegisterUserDto.builder()
+                .email(email)
+                .firstName("John")
+                .lastName("Doe")
+                .password(PASSWORD)
+                .confirmPassword(PASSWORD)
+                .build();
+    }
+
+    private ChangePasswordDto changePasswordDto() {
+        return ChangePasswordDto.builder()
+                .currentPassword(PASSWORD)
+                .newPassword(NEW_PASSWORD)
+                .confirmNewPassword(NEW_PASSWORD)
+                .build();
+    }
+
+    private AuthenticateUserDto authenticateUserDto(String password) {
+        return AuthenticateUserDto.builder()
+                .email(email)
+                .password(password)
+                .build();
+    }
+
+}
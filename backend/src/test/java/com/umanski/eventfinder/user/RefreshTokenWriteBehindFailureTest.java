@@ -0,0 +1,116 @@
+package com.umanski.eventfinder.user;
+
+import com.umanski.eventfinder.common.exception.ServiceUnavailableException;
+import com.umanski.eventfinder.user.model.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@Tag("UnitTest")
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenWriteBehindFailureTest {
+
+    private static final Instant NOW = Instant.now();
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(1);
+
+    @Mock
+    private TokenRepository tokenRepository;
+    @Mock
+    private Clock clock;
+
+    private TokenRevocationIndex revocationIndex;
+    private SimpleMeterRegistry meterRegistry;
+    private RefreshTokenWriteBehind refreshTokenWriteBehind;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        revocationIndex = new TokenRevocationIndex(1_000, 0.01, new SimpleMeterRegistry());
+        meterRegistry = new SimpleMeterRegistry();
+        refreshTokenWriteBehind = new RefreshTokenWriteBehind(tokenRepository, revocationIndex, TransactionOperations.withoutTransaction(),
+                meterRegistry, true, 500, 1, true, 3, RETRY_BACKOFF, Duration.ofMillis(200), clock);
+        user = User.builder()
+                .id(UUID.randomUUID())
+                .email("john.doe@example.com")
+                .build();
+        lenient().when(clock.instant()).thenReturn(NOW);
+    }
+
+    @Test
+    void flush_TokenRevokedWhileWritten_RevokesItAfterCommit() {
+        String jti = UUID.randomUUID().toString();
+        when(tokenRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            revocationIndex.revoke(jti, NOW.plus(1, ChronoUnit.DAYS));
+            return invocation.getArgument(0);
+        });
+        refreshTokenWriteBehind.enqueue(user, "token", jti, NOW.plus(1, ChronoUnit.DAYS), List.of());
+
+        refreshTokenWriteBehind.flush();
+
+        verify(tokenRepository).revokeAllByJti(List.of(jti));
+    }
+
+    @Test
+    void flush_DatabaseDown_RetriesWithBackoffAndDropsBatchAfterMaxAttempts() {
+        String jti = UUID.randomUUID().toString();
+        when(tokenRepository.saveAll(anyList())).thenThrow(new DataAccessResourceFailureException("down"));
+        refreshTokenWriteBehind.enqueue(user, "token", jti, NOW.plus(1, ChronoUnit.DAYS), List.of());
+
+        refreshTokenWriteBehind.flush();
+        refreshTokenWriteBehind.flush();
+        verify(tokenRepository, times(1)).saveAll(anyList());
+
+        when(clock.instant()).thenReturn(NOW.plus(RETRY_BACKOFF));
+        refreshTokenWriteBehind.flush();
+        when(clock.instant()).thenReturn(NOW.plus(RETRY_BACKOFF).plus(RETRY_BACKOFF.multipliedBy(2)));
+        refreshTokenWriteBehind.flush();
+
+        verify(tokenRepository, times(3)).saveAll(anyList());
+        assertTrue(refreshTokenWriteBehind.pendingTokens(user.getId()).isEmpty());
+        assertTrue(revocationIndex.isRevoked(jti));
+        assertEquals(1, meterRegistry.get("auth.token.write.behind.dropped").counter().count());
+    }
+
+    @Test
+    void shutdown_DuringRetryBackoff_MakesFinalAttempt() {
+        when(tokenRepository.saveAll(anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        refreshTokenWriteBehind.enqueue(user, "token", UUID.randomUUID().toString(), NOW.plus(1, ChronoUnit.DAYS), List.of());
+        refreshTokenWriteBehind.flush();
+
+        refreshTokenWriteBehind.shutdown();
+
+        verify(tokenRepository, times(2)).saveAll(anyList());
+        assertTrue(refreshTokenWriteBehind.pendingTokens(user.getId()).isEmpty());
+    }
+
+    @Test
+    void enqueue_QueueFull_FailsFastWithoutWriting() {
+        refreshTokenWriteBehind.enqueue(user, "token", UUID.randomUUID().toString(), NOW.plus(1, ChronoUnit.DAYS), List.of());
+
+        assertThrows(ServiceUnavailableException.class, () -> refreshTokenWriteBehind.ensureCapacity());
+        assertThrows(ServiceUnavailableException.class,
+                () -> refreshTokenWriteBehind.enqueue(user, "other", UUID.randomUUID().toString(), NOW.plus(1, ChronoUnit.DAYS), List.of()));
+        assertEquals(1, refreshTokenWriteBehind.pendingTokens(user.getId()).size());
+        verifyNoInteractions(tokenRepository);
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.umanski.eventfinder.user;
+
+import com.umanski.eventfinder.common.persistence.SqlStatementCounter;
+import com.umanski.eventfinder.common.persistence.SqlStatementCounterConfig;
+import com.umanski.eventfinder.common.util.TokenDigest;
+import com.umanski.eventfinder.user.exception.TokenValidationException;
+import com.umanski.eventfinder.user.model.dto.AuthenticateUserDto;
+import com.umanski.eventfinder.user.model.dto.AuthenticationResponse;
+import com.umanski.eventfinder.user.model.dto.RefreshTokenOperationsDto;
+import com.umanski.eventfinder.user.model.dto.RegisterUserDto;
+import com.umanski.eventfinder.user.model.entity.Token;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("IntegrationTest")
+@SpringBootTest
+@ActiveProfiles("statement-count")
+@Import(SqlStatementCounterConfig.class)
+@TestPropertySource(properties = {
+        "application.security.jwt.refresh-token.write-behind.enabled=true",
+        "application.security.jwt.refresh-token.write-behind.flush-interval=1h"
+})
+class RefreshTokenWriteBehindTest {
+
+    private static final String PASSWORD = "strongpassword123";
+
+    @Autowired
+    private AuthenticationService authenticationService;
+    @Autowired
+    private RefreshTokenWriteBehind refreshTokenWriteBehind;
+    @Autowired
+    private TokenRepository tokenRepository;
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        email = "write-behind-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+        refreshTokenWriteBehind.flush();
+    }
+
+    @Test
+    void authenticate_WriteBehind_DefersTokenWritesToSingleBatch() {
+        authenticationService.register(registerUserDto());
+        AuthenticationResponse first = authenticationService.authenticate(authenticateUserDto());
+        sqlStatementCounter.reset();
+
+        AuthenticationResponse second = authenticationService.authenticate(authenticateUserDto());
+
+        sqlStatementCounter.assertStatementCount(1, 0, 0, 0);
+        assertTrue(findToken(second.getRefreshToken()).isEmpty());
+
+        sqlStatementCounter.reset();
+        refreshTokenWriteBehind.flush();
+
+        sqlStatementCounter.assertStatementCount(0, 1, 1, 0);
+        assertTrue(findToken(first.getRefreshToken()).map(Token::isRevoked).orElseThrow());
+        assertFalse(findToken(second.getRefreshToken()).map(Token::isRevoked).orElseThrow());
+    }
+
+    @Test
+    void refreshToken_PendingToken_IsRotatedBeforeFlush() {
+        AuthenticationResponse response = authenticationService.register(registerUserDto());
+
+        authenticationService.refreshToken(refreshTokenOperationsDto(response.getRefreshToken()));
+
+        assertThrows(TokenValidationException.class,
+                () -> authenticationService.refreshToken(refreshTokenOperationsDto(response.getRefreshToken())));
+    }
+
+    @Test
+    void logout_PendingToken_IsWrittenAsRevoked() {
+        AuthenticationResponse response = authenticationService.register(registerUserDto());
+
+        authenticationService.logout(refreshTokenOperationsDto(response.getRefreshToken()));
+        refreshTokenWriteBehind.flush();
+
+        assertTrue(findToken(response.getRefreshToken()).map(Token::isRevoked).orElseThrow());
+    }
+
+    @Test
+    void logoutAllSessions_PendingToken_IsRevokedBeforeAndAfterFlush() {
+        AuthenticationResponse response = authenticationService.register(registerUserDto());
+        AuthenticationResponse otherResponse = authenticationService.register(registerUserDto("other-" + email));
+
+        authenticationService.logoutAllSessions(refreshTokenOperationsDto(response.getRefreshToken()));
+
+        assertThrows(TokenValidationException.class,
+                () -> authenticationService.refreshToken(refreshTokenOperationsDto(response.getRefreshToken())));
+        refreshTokenWriteBehind.flush();
+        assertTrue(findToken(response.getRefreshToken()).map(Token::isRevoked).orElseThrow());
+        assertFalse(findToken(otherResponse.getRefreshToken()).map(Token::isRevoked).orElseThrow());
+    }
+
+    private Optional<Token> findToken(String refreshToken) {
+        byte[] tokenHash = TokenDigest.sha256(refreshToken);
+        return tokenRepository.findAll().stream()
+                .filter(token -> Arrays.equals(token.getTokenHash(), tokenHash))
+                .findFirst();
+    }
+
+    private RegisterUserDto registerUserDto() {
+        return registerUserDto(email);
+    }
+
+    private RegisterUserDto registerUserDto(String email) {
+        return RegisterUserDto.builder()
+                .email(email)
+                .firstName("John")
+                .lastName("Doe")
+                .password(PASSWORD)
+                .confirmPassword(PASSWORD)
+                .build();
+    }
+
+    private AuthenticateUserDto authenticateUserDto() {
+        return AuthenticateUserDto.builder()
+                .email(email)
+                .password(PASSWORD)
+                .build();
+    }
+
+    private RefreshTokenOperationsDto refreshTokenOperationsDto(String refreshToken) {
+        RefreshTokenOperationsDto refreshTokenOperationsDto = new RefreshTokenOperationsDto();
+        refreshTokenOperationsDto.setRefreshToken(refreshToken);
+        return refreshTokenOperationsDto;
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.umanski.eventfinder.user;
+
+import com.umanski.eventfinder.common.persistence.SqlStatementCounter;
+import com.umanski.eventfinder.common.persistence.SqlStatementCounterConfig;
+import com.umanski.eventfinder.common.util.TokenDigest;
+import com.umanski.eventfinder.user.model.dto.RegisterUserDto;
+import com.umanski.eventfinder.user.model.entity.Token;
+import com.umanski.eventfinder.user.model.entity.User;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("IntegrationTest")
+@SpringBootTest
+@ActiveProfiles("statement-count")
+@Import(SqlStatementCounterConfig.class)
+class RevokeAllTokensTest {
+
+    private static final String PASSWORD = "strongpassword123";
+
+    @Autowired
+    private AuthenticationService authenticationService;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private TokenRepository tokenRepository;
+    @Autowired
+    private TokenRevocationIndex revocationIndex;
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @Test
+    void revokeAllTokens_SeveralLiveTokens_RevokesThemInOneUpdate() {
+        User user = registerUser();
+        User otherUser = registerUser();
+        List<Token> liveTokens = saveTokens(user, 3, Instant.now().plus(1, ChronoUnit.DAYS));
+        Token expiredToken = saveTokens(user, 1, Instant.now().minus(1, ChronoUnit.DAYS)).getFirst();
+        Token otherUsersToken = saveTokens(otherUser, 1, Instant.now().plus(1, ChronoUnit.DAYS)).getFirst();
+        sqlStatementCounter.reset();
+
+        int revokedTokens = jwtService.revokeAllTokens(user);
+
+        sqlStatementCounter.assertStatementCount(1, 0, 1, 0);
+        assertEquals(4, revokedTokens);
+        liveTokens.forEach(token -> {
+            assertTrue(isRevoked(token));
+            assertTrue(revocationIndex.isRevoked(token.getJti()));
+        });
+        assertFalse(isRevoked(expiredToken));
+        assertFalse(isRevoked(otherUsersToken));
+        assertFalse(revocationIndex.isRevoked(otherUsersToken.getJti()));
+    }
+
+    private User registerUser() {
+        String email = "revoke-all-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+        authenticationService.register(RegisterUserDto.builder()
+                .email(email)
+                .firstName("John")
+                .lastName("Doe")
+                .password(PASSWORD)
+                .confirmPassword(PASSWORD)
+                .build());
+        return userService.findUserByEmail(email).orElseThrow();
+    }
+
+    private List<Token> saveTokens(User user, int count, Instant expirationDate) {
+        List<Token> tokens = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tokens.add(Token.builder()
+                    .user(user)
+                    .tokenHash(TokenDigest.sha256("token-" + UUID.randomUUID()))
+                    .jti(UUID.randomUUID().toString())
+                    .expirationDate(expirationDate)
+                    .build());
+        }
+        return tokenRepository.saveAll(tokens);
+    }
+
+    private boolean isRevoked(Token token) {
+        return tokenRepository.findById(token.getId()).orElseThrow().isRevoked();
+    }
+
+}
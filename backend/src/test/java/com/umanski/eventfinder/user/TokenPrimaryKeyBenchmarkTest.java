@@ -0,0 +1,128 @@
+package com.umanski.eventfinder.user;
+
+import com.umanski.eventfinder.common.util.UuidV7Generator;
+import com.umanski.eventfinder.config.CacheConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@DataJpaTest
+@Tag("Benchmark")
+@Import(CacheConfig.class)
+@ActiveProfiles("benchmark")
+class TokenPrimaryKeyBenchmarkTest {
+
+    private static final String RANDOM_KEYS_TABLE = "tokens_random_keys";
+    private static final String TIME_ORDERED_KEYS_TABLE = "tokens_time_ordered_keys";
+    private static final int BATCH_SIZE = 1_000;
+
+    @Value("${benchmark.tokens.rows}")
+    private int rows;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        createTokensTable(RANDOM_KEYS_TABLE);
+        createTokensTable(TIME_ORDERED_KEYS_TABLE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("drop table if exists " + RANDOM_KEYS_TABLE);
+        jdbcTemplate.execute("drop table if exists " + TIME_ORDERED_KEYS_TABLE);
+    }
+
+    @Test
+    void uuidV7Keys_ComparedToRandomKeys_InsertIntoSmallerIndex() {
+        UuidV7Generator uuidV7Generator = UuidV7Generator.getInstance();
+        long randomKeysNanos = 0;
+        long timeOrderedKeysNanos = 0;
+
+        for (int inserted = 0; inserted < rows; inserted += BATCH_SIZE) {
+            int batchSize = Math.min(BATCH_SIZE, rows - inserted);
+            randomKeysNanos += insertBatch(RANDOM_KEYS_TABLE, UUID::randomUUID, batchSize);
+            timeOrderedKeysNanos += insertBatch(TIME_ORDERED_KEYS_TABLE, uuidV7Generator::generate, batchSize);
+        }
+
+        log.info("{} rows with random v4 keys: {} rows/s", rows, rowsPerSecond(randomKeysNanos));
+        log.info("{} rows with time-ordered v7 keys: {} rows/s", rows, rowsPerSecond(timeOrderedKeysNanos));
+        assertEquals(rows, jdbcTemplate.queryForObject("select count(*) from " + TIME_ORDERED_KEYS_TABLE, Integer.class));
+
+        if (isPostgreSql()) {
+            long randomKeysIndexBytes = primaryKeyIndexBytes(RANDOM_KEYS_TABLE);
+            long timeOrderedKeysIndexBytes = primaryKeyIndexBytes(TIME_ORDERED_KEYS_TABLE);
+            log.info("Primary key index: random v4 keys {} KiB, time-ordered v7 keys {} KiB",
+                    randomKeysIndexBytes / 1_024, timeOrderedKeysIndexBytes / 1_024);
+            assertTrue(timeOrderedKeysIndexBytes < randomKeysIndexBytes,
+                    "Time-ordered key index (" + timeOrderedKeysIndexBytes + " B) is not smaller than random key index (" + randomKeysIndexBytes + " B)");
+        }
+    }
+
+    private void createTokensTable(String table) {
+        jdbcTemplate.execute("""
+                create table %s (
+                    id uuid primary key,
+                    jti varchar(36) not null,
+                    token_type varchar(20) not null,
+                    expiration_date timestamp(6) with time zone not null,
+                    revoked boolean not null,
+                    user_id uuid not null,
+                    creation_timestamp timestamp(6) not null,
+                    update_timestamp timestamp(6) not null
+                )
+                """.formatted(table));
+    }
+
+    private long insertBatch(String table, Supplier<UUID> keys, int batchSize) {
+        Timestamp now = Timestamp.from(Instant.now());
+        Timestamp expirationDate = Timestamp.from(Instant.now().plus(1, ChronoUnit.DAYS));
+        UUID userId = UUID.randomUUID();
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(new Object[]{keys.get(), UUID.randomUUID().toString(), "BEARER", expirationDate, false, userId, now, now});
+        }
+        long start = System.nanoTime();
+        jdbcTemplate.batchUpdate("""
+                insert into %s (id, jti, token_type, expiration_date, revoked, user_id, creation_timestamp, update_timestamp)
+                values (?, ?, ?, ?, ?, ?, ?, ?)
+                """.formatted(table), batch);
+        return System.nanoTime() - start;
+    }
+
+    private boolean isPostgreSql() {
+        return "PostgreSQL".equals(jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+    }
+
+    private long primaryKeyIndexBytes(String table) {
+        return jdbcTemplate.queryForObject("select pg_relation_size(?::regclass)", Long.class, table + "_pkey");
+    }
+
+    private long rowsPerSecond(long nanos) {
+        return rows * 1_000_000_000L / Math.max(1, nanos);
+    }
+
+}
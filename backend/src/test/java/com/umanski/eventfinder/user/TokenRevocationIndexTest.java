@@ -0,0 +1,97 @@
+package com.umanski.eventfinder.user;
+
+import com.umanski.eventfinder.common.cache.CacheInvalidationBus;
+import com.umanski.eventfinder.common.cache.EmbeddedSharedCacheStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("UnitTest")
+class TokenRevocationIndexTest {
+
+    private final TokenRevocationIndex revocationIndex = new TokenRevocationIndex(1_000, 0.01, new SimpleMeterRegistry());
+
+    @Test
+    void isRevoked_RevokedToken_ReturnsTrue() {
+        String jti = UUID.randomUUID().toString();
+
+        revocationIndex.revoke(jti, Instant.now().plusSeconds(60));
+
+        assertTrue(revocationIndex.isRevoked(jti));
+        assertFalse(revocationIndex.isRevoked(UUID.randomUUID().toString()));
+    }
+
+    @Test
+    void revoke_AlreadyExpiredToken_IsNotStored() {
+        revocationIndex.revoke(UUID.randomUUID().toString(), Instant.now().minusSeconds(1));
+
+        assertEquals(0, revocationIndex.size());
+    }
+
+    @Test
+    void rebuild_DropsExpiredEntriesAndKeepsLiveOnes() {
+        String liveJti = UUID.randomUUID().toString();
+        String expiredJti = UUID.randomUUID().toString();
+
+        revocationIndex.rebuild(Map.of(
+                liveJti, Instant.now().plusSeconds(60),
+                expiredJti, Instant.now().minusSeconds(60)
+        ));
+
+        assertTrue(revocationIndex.isRevoked(liveJti));
+        assertFalse(revocationIndex.isRevoked(expiredJti));
+        assertEquals(1, revocationIndex.size());
+    }
+
+    @Test
+    void revoke_SharedTierEnabled_IsVisibleOnOtherNodes() {
+        EmbeddedSharedCacheStore sharedStore = new EmbeddedSharedCacheStore();
+        TokenRevocationIndex firstNode = sharedIndex(sharedStore);
+        TokenRevocationIndex secondNode = sharedIndex(sharedStore);
+        String jti = UUID.randomUUID().toString();
+
+        try {
+            firstNode.revoke(jti, Instant.now().plusSeconds(60));
+
+            await().atMost(Duration.ofSeconds(5)).until(() -> secondNode.size() == 1);
+            assertTrue(secondNode.isRevoked(jti));
+            assertFalse(secondNode.isRevoked(UUID.randomUUID().toString()));
+        } finally {
+            sharedStore.close();
+        }
+    }
+
+    @Test
+    void rebuild_SharedTierEnabled_SeedsRevocationsFromSharedStore() {
+        EmbeddedSharedCacheStore sharedStore = new EmbeddedSharedCacheStore();
+        String jti = UUID.randomUUID().toString();
+
+        try {
+            TokenRevocationIndex runningNode = sharedIndex(sharedStore);
+            sharedIndex(sharedStore).revoke(jti, Instant.now().plusSeconds(60));
+            await().atMost(Duration.ofSeconds(5)).until(() -> runningNode.size() == 1);
+            TokenRevocationIndex startingNode = sharedIndex(sharedStore);
+
+            startingNode.rebuild(Map.of());
+
+            assertTrue(startingNode.isRevoked(jti));
+            assertEquals(1, startingNode.size());
+        } finally {
+            sharedStore.close();
+        }
+    }
+
+    private TokenRevocationIndex sharedIndex(EmbeddedSharedCacheStore sharedStore) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        return new TokenRevocationIndex(1_000, 0.01, sharedStore, new CacheInvalidationBus(sharedStore, meterRegistry), meterRegistry);
+    }
+
+}
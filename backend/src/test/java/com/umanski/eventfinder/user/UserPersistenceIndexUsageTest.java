@@ -0,0 +1,80 @@
+package com.umanski.eventfinder.user;
+
+import com.umanski.eventfinder.common.persistence.IndexScanAssertions;
+import com.umanski.eventfinder.common.util.TokenDigest;
+import com.umanski.eventfinder.config.CacheConfig;
+import com.umanski.eventfinder.user.model.entity.Token;
+import com.umanski.eventfinder.user.model.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+@DataJpaTest
+@Tag("PostgreSQL")
+@Import(CacheConfig.class)
+@ActiveProfiles("postgres")
+class UserPersistenceIndexUsageTest {
+
+    private static final String USERS = "users";
+    private static final String TOKENS = "tokens";
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TokenRepository tokenRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private IndexScanAssertions indexScanAssertions;
+    private User user;
+    private Token token;
+
+    @BeforeEach
+    void setUp() {
+        indexScanAssertions = new IndexScanAssertions(jdbcTemplate, entityManager.getEntityManager());
+        user = entityManager.persist(User.builder()
+                .email("john.doe@example.com")
+                .firstName("John")
+                .lastName("Doe")
+                .password("password")
+                .build());
+        token = entityManager.persist(Token.builder()
+                .user(user)
+                .tokenHash(TokenDigest.sha256("token-" + UUID.randomUUID()))
+                .jti(UUID.randomUUID().toString())
+                .expirationDate(Instant.now().plus(1, ChronoUnit.DAYS))
+                .build());
+        indexScanAssertions.disableSequentialScans();
+    }
+
+    @Test
+    void userRepository_EveryQueryUsesIndex() {
+        indexScanAssertions.assertIndexScan(USERS, () -> userRepository.findById(user.getId()));
+        indexScanAssertions.assertIndexScan(USERS, () -> userRepository.findByNormalizedEmail(user.getNormalizedEmail()));
+        indexScanAssertions.assertIndexScan(USERS, () -> userRepository.existsByNormalizedEmail(user.getNormalizedEmail()));
+    }
+
+    @Test
+    void tokenRepository_EveryQueryUsesIndex() {
+        Instant now = Instant.now();
+        indexScanAssertions.assertIndexScan(TOKENS, () -> tokenRepository.findById(token.getId()));
+        indexScanAssertions.assertIndexScan(TOKENS, () -> tokenRepository.findAllLiveTokensByUser(user.getId(), now));
+        indexScanAssertions.assertIndexScan(TOKENS, () -> tokenRepository.findAllRevokedTokensExpiringAfter(now));
+        indexScanAssertions.assertIndexScan(TOKENS, () -> tokenRepository.revokeByJti(token.getJti()));
+        indexScanAssertions.assertIndexScan(TOKENS, () -> tokenRepository.revokeAllByUser(user.getId(), Instant.now()));
+        indexScanAssertions.assertIndexScan(TOKENS, () -> tokenRepository.deleteExpiredTokens(now, 100));
+    }
+
+}
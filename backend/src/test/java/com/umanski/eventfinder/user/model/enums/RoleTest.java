@@ -0,0 +1,52 @@
+package com.umanski.eventfinder.user.model.enums;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("UnitTest")
+class RoleTest {
+
+    @Test
+    void getAuthorities_CalledRepeatedly_ReturnsSameImmutableList() {
+        List<SimpleGrantedAuthority> authorities = Role.ADMIN.getAuthorities();
+
+        assertSame(authorities, Role.ADMIN.getAuthorities());
+        assertThrows(UnsupportedOperationException.class, () -> authorities.add(new SimpleGrantedAuthority("ROLE_ROOT")));
+    }
+
+    @Test
+    void getAuthorities_AdminRole_ContainsPermissionsAndRoleAuthority() {
+        assertEquals(List.of(
+                new SimpleGrantedAuthority("admin:read"),
+                new SimpleGrantedAuthority("admin:update"),
+                new SimpleGrantedAuthority("admin:create"),
+                new SimpleGrantedAuthority("admin:delete"),
+                new SimpleGrantedAuthority("ROLE_ADMIN")
+        ), Role.ADMIN.getAuthorities());
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_USER")), Role.USER.getAuthorities());
+    }
+
+    @Test
+    void hasPermission_MatchesPermissionsOfRole() {
+        for (Permission permission : Permission.values()) {
+            assertTrue(Role.ADMIN.hasPermission(permission));
+            assertFalse(Role.USER.hasPermission(permission));
+        }
+    }
+
+    @Test
+    void hasAllPermissions_RequiresEveryBitOfMask() {
+        long readAndDelete = Permission.maskOf(Set.of(Permission.ADMIN_READ, Permission.ADMIN_DELETE));
+
+        assertTrue(Role.ADMIN.hasAllPermissions(readAndDelete));
+        assertFalse(Role.USER.hasAllPermissions(readAndDelete));
+        assertTrue(Role.USER.hasAllPermissions(0L));
+    }
+
+}
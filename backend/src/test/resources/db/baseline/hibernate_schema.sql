@@ -0,0 +1,30 @@
+-- Schema generated by Hibernate ddl-auto before the Flyway migrations were introduced
+
+create table tokens (
+    revoked boolean not null,
+    creation_timestamp timestamp(6) not null,
+    expiration_date timestamp(6) with time zone not null,
+    update_timestamp timestamp(6) not null,
+    id uuid not null,
+    user_id uuid not null,
+    token_type varchar(20) not null check (token_type in ('BEARER')),
+    token varchar(512) not null unique,
+    primary key (id)
+);
+
+create table users (
+    creation_timestamp timestamp(6) not null,
+    update_timestamp timestamp(6) not null,
+    id uuid not null,
+    role varchar(20) not null check (role in ('USER','ADMIN')),
+    email varchar(50) not null unique,
+    first_name varchar(50) not null,
+    last_name varchar(50) not null,
+    password varchar(1024) not null,
+    primary key (id)
+);
+
+alter table if exists tokens
+   add constraint FK2dylsfo39lgjyqml2tbe0b0ss
+   foreign key (user_id)
+   references users;